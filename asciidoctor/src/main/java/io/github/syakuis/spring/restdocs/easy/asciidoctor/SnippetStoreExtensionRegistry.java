@@ -0,0 +1,18 @@
+package io.github.syakuis.spring.restdocs.easy.asciidoctor;
+
+import org.asciidoctor.Asciidoctor;
+import org.asciidoctor.jruby.extension.spi.ExtensionRegistry;
+
+/**
+ * Registers the {@link SnippetStoreIncludeProcessor} with Asciidoctor when this extension is on the
+ * Asciidoctor classpath, e.g. through the {@code asciidoctorExtensions} configuration of the build.
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+public class SnippetStoreExtensionRegistry implements ExtensionRegistry {
+    @Override
+    public void register(Asciidoctor asciidoctor) {
+        asciidoctor.javaExtensionRegistry().includeProcessor(SnippetStoreIncludeProcessor.class);
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.syakuis.spring.restdocs.easy.asciidoctor;
+
+import io.github.syakuis.spring.restdocs.easy.snippet.SnippetStore;
+import org.asciidoctor.ast.Document;
+import org.asciidoctor.extension.IncludeProcessor;
+import org.asciidoctor.extension.PreprocessorReader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Asciidoctor include processor of "Spring REST Docs Easy" that reads snippets from a {@link SnippetStore}
+ * instead of snippet files, so documentation built from a store does not need one file per snippet.
+ *
+ * <p>An include is handled when its target file does not exist and a parent directory of the target holds a
+ * {@value SnippetStore#FILE_NAME} with a record for the path of the target relative to that directory.
+ * Other includes are left to Asciidoctor. Targets are resolved as given, so they should be absolute,
+ * like the {@code snippets} attribute set by Spring REST Docs' Asciidoctor extension:</p>
+ * <pre>{@code
+ * include::{snippets}/user-get/response-fields.adoc[]
+ * }</pre>
+ *
+ * <p>Each store is memory-mapped and indexed once and opened again only when the file changed.</p>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ * @see SnippetStoreExtensionRegistry
+ */
+public class SnippetStoreIncludeProcessor extends IncludeProcessor {
+    private final Map<Path, OpenStore> stores = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean handles(String target) {
+        return content(target).isPresent();
+    }
+
+    @Override
+    public void process(Document document, PreprocessorReader reader, String target, Map<String, Object> attributes) {
+        String content = content(target).orElseThrow(() -> new IllegalStateException("Snippet is not stored: " + target));
+        reader.pushInclude(content, target, target, 1, attributes);
+    }
+
+    /**
+     * Looks up the content of an include target in the nearest store above it.
+     *
+     * @param target the include target
+     * @return the stored content, or empty if the target is a file or is not stored
+     */
+    private Optional<String> content(String target) {
+        Path file;
+        try {
+            file = Path.of(target).toAbsolutePath().normalize();
+        } catch (InvalidPathException e) {
+            return Optional.empty();
+        }
+        if (Files.exists(file)) {
+            return Optional.empty();
+        }
+
+        for (Path directory = file.getParent(); directory != null; directory = directory.getParent()) {
+            Path storeFile = directory.resolve(SnippetStore.FILE_NAME);
+            if (Files.isRegularFile(storeFile)) {
+                String path = directory.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+                return store(storeFile).get(path);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private SnippetStore store(Path storeFile) {
+        try {
+            long size = Files.size(storeFile);
+            FileTime modified = Files.getLastModifiedTime(storeFile);
+            OpenStore open = stores.get(storeFile);
+            if (open != null && open.size() == size && open.modified().equals(modified)) {
+                return open.store();
+            }
+
+            OpenStore reopened = new OpenStore(size, modified, SnippetStore.open(storeFile));
+            OpenStore previous = stores.put(storeFile, reopened);
+            if (previous != null) {
+                previous.store().close();
+            }
+            return reopened.store();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A store opened for a version of its file.
+     *
+     * @param size the size of the file when it was opened
+     * @param modified the modification time of the file when it was opened
+     * @param store the opened store
+     */
+    private record OpenStore(long size, FileTime modified, SnippetStore store) {
+    }
+}
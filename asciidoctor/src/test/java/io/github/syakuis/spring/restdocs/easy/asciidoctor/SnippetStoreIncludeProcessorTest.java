@@ -0,0 +1,63 @@
+package io.github.syakuis.spring.restdocs.easy.asciidoctor;
+
+import io.github.syakuis.spring.restdocs.easy.snippet.SnippetStore;
+import org.asciidoctor.Asciidoctor;
+import org.asciidoctor.Options;
+import org.asciidoctor.SafeMode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+class SnippetStoreIncludeProcessorTest {
+    private static Asciidoctor asciidoctor;
+
+    @TempDir
+    private Path snippets;
+
+    @BeforeAll
+    static void setUp() {
+        asciidoctor = Asciidoctor.Factory.create();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        asciidoctor.close();
+    }
+
+    @Test
+    void shouldIncludeSnippetsFromStore() throws Exception {
+        Files.writeString(snippets.resolve(SnippetStore.FILE_NAME),
+            "{\"operation\":\"user-get\",\"snippet\":\"http-request\",\"path\":\"user-get/http-request.adoc\",\"content\":\"stored request\"}\n");
+
+        String html = convert("include::" + snippets + "/user-get/http-request.adoc[]");
+
+        assertTrue(html.contains("stored request"), html);
+    }
+
+    @Test
+    void shouldPreferSnippetFiles() throws Exception {
+        Files.writeString(snippets.resolve(SnippetStore.FILE_NAME),
+            "{\"operation\":\"user-get\",\"snippet\":\"http-request\",\"path\":\"user-get/http-request.adoc\",\"content\":\"stored request\"}\n");
+        Files.createDirectories(snippets.resolve("user-get"));
+        Files.writeString(snippets.resolve("user-get/http-request.adoc"), "file request");
+
+        String html = convert("include::" + snippets + "/user-get/http-request.adoc[]");
+
+        assertTrue(html.contains("file request"), html);
+        assertFalse(html.contains("stored request"), html);
+    }
+
+    private String convert(String source) {
+        return asciidoctor.convert(source, Options.builder().safe(SafeMode.UNSAFE).build());
+    }
+}
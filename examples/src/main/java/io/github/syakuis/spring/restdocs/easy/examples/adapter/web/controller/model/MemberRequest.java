@@ -1,5 +1,6 @@
 package io.github.syakuis.spring.restdocs.easy.examples.adapter.web.controller.model;
 
+import io.github.syakuis.spring.restdocs.easy.processor.RestDocsEasyMetadata;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -10,6 +11,7 @@ import java.util.List;
  * @author Seok Kyun. Choi.
  * @since 2024-10-22
  */
+@RestDocsEasyMetadata
 public record MemberRequest(
     @NotBlank
     String name,
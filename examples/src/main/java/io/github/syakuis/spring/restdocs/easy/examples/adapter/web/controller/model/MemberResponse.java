@@ -1,11 +1,14 @@
 package io.github.syakuis.spring.restdocs.easy.examples.adapter.web.controller.model;
 
+import io.github.syakuis.spring.restdocs.easy.processor.RestDocsEasyMetadata;
+
 import java.util.List;
 
 /**
  * @author Seok Kyun. Choi.
  * @since 2024-10-22
  */
+@RestDocsEasyMetadata
 public record MemberResponse(
     long id,
     String name,
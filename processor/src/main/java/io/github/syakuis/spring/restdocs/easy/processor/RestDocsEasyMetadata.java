@@ -0,0 +1,36 @@
+package io.github.syakuis.spring.restdocs.easy.processor;
+
+import java.lang.annotation.*;
+
+/**
+ * Opts a DTO into compile-time metadata generation for "Spring REST Docs Easy".
+ * The {@link RestDocsEasyMetadataProcessor} emits a {@code <ClassName>_RestDocsEasyMetadata}
+ * class next to the annotated type that lists the documentable fields, so the field and
+ * accessor discovery of {@code ClassMetadataGenerator} becomes a static lookup at test time.
+ * Types without a generated table are still resolved through reflection.
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * // build.gradle
+ * dependencies {
+ *     compileOnly 'io.github.syakuis:spring-restdocs-easy-processor:1.0.0'
+ *     annotationProcessor 'io.github.syakuis:spring-restdocs-easy-processor:1.0.0'
+ * }
+ *
+ * @RestDocsEasyMetadata
+ * public record MemberResponse(long id, String name, Job job) {
+ * }
+ * }</pre>
+ *
+ * <p>When the accessors of a class are generated by Lombok, declare the Lombok annotation
+ * processor before this one so the generated getters are visible during processing.</p>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ * @see RestDocsEasyMetadataProcessor
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+@Documented
+public @interface RestDocsEasyMetadata {
+}
@@ -0,0 +1,200 @@
+package io.github.syakuis.spring.restdocs.easy.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Annotation processor for "Spring REST Docs Easy" that pre-generates the field metadata
+ * table of classes annotated with {@link RestDocsEasyMetadata}.
+ *
+ * <p>The processor applies the same field qualification rules as {@code ClassMetadataGenerator}:</p>
+ * - Enum typed fields are always documented
+ * - Record classes document their record components
+ * - Other classes document fields with a public fluent, standard or boolean accessor
+ *   that returns exactly the field type
+ *
+ * <p>Generated source for {@code com.example.MemberResponse}:</p>
+ * <pre>{@code
+ * package com.example;
+ *
+ * public final class MemberResponse_RestDocsEasyMetadata {
+ *     public static List<String> fields() {
+ *         return List.of("id", "name", "job");
+ *     }
+ *
+ *     public static List<String> annotatedFields() {
+ *         return List.of("name");
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>{@code annotatedFields()} lists the documented fields that carry annotations, so the runtime
+ * only reads the annotations of those fields.</p>
+ *
+ * <p>Descriptions and constraint descriptions are not generated because they depend on the
+ * message source and locale of the test context; they are still resolved at runtime.</p>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+@SupportedAnnotationTypes("io.github.syakuis.spring.restdocs.easy.processor.RestDocsEasyMetadata")
+public class RestDocsEasyMetadataProcessor extends AbstractProcessor {
+    /**
+     * Suffix appended to the flattened binary name of the annotated class.
+     * Must match the lookup in {@code ClassMetadataGenerator}.
+     */
+    static final String GENERATED_SUFFIX = "_RestDocsEasyMetadata";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(RestDocsEasyMetadata.class))) {
+            if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.RECORD) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "@RestDocsEasyMetadata is only supported on classes and records", type);
+                continue;
+            }
+
+            try {
+                List<VariableElement> fields = documentedFields(type);
+                write(type, names(fields), names(fields.stream().filter(field -> !field.getAnnotationMirrors().isEmpty()).toList()));
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate REST Docs Easy metadata: " + e.getMessage(), type);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Collects the fields that qualify for documentation, in declaration order.
+     *
+     * @param type the annotated class or record
+     * @return the documented fields
+     */
+    private List<VariableElement> documentedFields(TypeElement type) {
+        boolean record = type.getKind() == ElementKind.RECORD;
+        Map<String, TypeMirror> accessors = record ? recordAccessors(type) : publicAccessors(type);
+
+        List<VariableElement> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            String name = field.getSimpleName().toString();
+            TypeMirror fieldType = field.asType();
+
+            if (isEnum(fieldType) || hasAccessor(accessors, name, fieldType, record)) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private static List<String> names(List<VariableElement> fields) {
+        return fields.stream().map(field -> field.getSimpleName().toString()).toList();
+    }
+
+    private Map<String, TypeMirror> recordAccessors(TypeElement type) {
+        Map<String, TypeMirror> accessors = new HashMap<>();
+        for (RecordComponentElement component : ElementFilter.recordComponentsIn(type.getEnclosedElements())) {
+            accessors.put(component.getSimpleName().toString(),
+                processingEnv.getTypeUtils().erasure(component.asType()));
+        }
+        return accessors;
+    }
+
+    /**
+     * Indexes every public method without parameters, including inherited ones.
+     * When a name appears more than once the most specific return type is kept.
+     */
+    private Map<String, TypeMirror> publicAccessors(TypeElement type) {
+        var types = processingEnv.getTypeUtils();
+        Map<String, TypeMirror> accessors = new HashMap<>();
+
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (!method.getModifiers().contains(Modifier.PUBLIC)
+                || !method.getParameters().isEmpty()
+                || method.getReturnType().getKind() == TypeKind.VOID) {
+                continue;
+            }
+
+            TypeMirror returnType = types.erasure(method.getReturnType());
+            accessors.merge(method.getSimpleName().toString(), returnType,
+                (existing, candidate) -> types.isAssignable(candidate, existing) ? candidate : existing);
+        }
+        return accessors;
+    }
+
+    private boolean hasAccessor(Map<String, TypeMirror> accessors, String fieldName, TypeMirror fieldType,
+                                boolean record) {
+        if (isAccessor(accessors, fieldName, fieldType)) {
+            return true;
+        } else if (record) {
+            return false;
+        }
+
+        var methodName = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        return isAccessor(accessors, "get" + methodName, fieldType)
+            || isAccessor(accessors, "is" + methodName, fieldType);
+    }
+
+    private boolean isAccessor(Map<String, TypeMirror> accessors, String methodName, TypeMirror fieldType) {
+        var types = processingEnv.getTypeUtils();
+        TypeMirror returnType = accessors.get(methodName);
+        return returnType != null && types.isSameType(returnType, types.erasure(fieldType));
+    }
+
+    private boolean isEnum(TypeMirror type) {
+        Element element = processingEnv.getTypeUtils().asElement(type);
+        return element != null && element.getKind() == ElementKind.ENUM;
+    }
+
+    /**
+     * Writes the metadata table next to the annotated type.
+     * Nested classes are flattened, e.g. {@code Outer.Inner} becomes {@code Outer_Inner_RestDocsEasyMetadata}.
+     */
+    private void write(TypeElement type, List<String> fields, List<String> annotatedFields) throws IOException {
+        var elements = processingEnv.getElementUtils();
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+            .replace('$', '_') + GENERATED_SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            writer.write("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")\n");
+            writer.write("public final class " + simpleName + " {\n");
+            writer.write("    private " + simpleName + "() {\n    }\n\n");
+            writer.write("    public static java.util.List<String> fields() {\n");
+            writer.write("        return java.util.List.of(" + literals(fields) + ");\n");
+            writer.write("    }\n\n");
+            writer.write("    public static java.util.List<String> annotatedFields() {\n");
+            writer.write("        return java.util.List.of(" + literals(annotatedFields) + ");\n");
+            writer.write("    }\n");
+            writer.write("}\n");
+        }
+    }
+
+    private static String literals(List<String> names) {
+        StringJoiner literals = new StringJoiner(", ");
+        names.forEach(name -> literals.add('"' + name + '"'));
+        return literals.toString();
+    }
+}
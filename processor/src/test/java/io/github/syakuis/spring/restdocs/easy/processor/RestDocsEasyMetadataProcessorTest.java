@@ -0,0 +1,90 @@
+package io.github.syakuis.spring.restdocs.easy.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.util.Optional;
+
+import static com.google.testing.compile.Compiler.javac;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+class RestDocsEasyMetadataProcessorTest {
+    @Test
+    void shouldGenerateTableOfRecordComponents() throws IOException {
+        Compilation compilation = compile(JavaFileObjects.forSourceLines("com.example.MemberResponse",
+            "package com.example;",
+            "",
+            "@io.github.syakuis.spring.restdocs.easy.processor.RestDocsEasyMetadata",
+            "public record MemberResponse(long id, @Deprecated String name) {",
+            "}"));
+
+        String table = generatedTable(compilation, "com.example.MemberResponse_RestDocsEasyMetadata");
+        assertTrue(table.contains("return java.util.List.of(\"id\", \"name\");"));
+        assertTrue(table.contains("return java.util.List.of(\"name\");"));
+    }
+
+    @Test
+    void shouldGenerateTableOfFieldsWithAccessors() throws IOException {
+        Compilation compilation = compile(JavaFileObjects.forSourceLines("com.example.Outer",
+            "package com.example;",
+            "",
+            "public class Outer {",
+            "    public enum Job { DEVELOPER }",
+            "",
+            "    @io.github.syakuis.spring.restdocs.easy.processor.RestDocsEasyMetadata",
+            "    public static class Member {",
+            "        private String name;",
+            "        private boolean active;",
+            "        private Job job;",
+            "        private String hidden;",
+            "        private Integer count;",
+            "",
+            "        public String getName() { return name; }",
+            "        public boolean isActive() { return active; }",
+            "        public Object count() { return count; }",
+            "    }",
+            "}"));
+
+        String table = generatedTable(compilation, "com.example.Outer_Member_RestDocsEasyMetadata");
+        assertTrue(table.contains("return java.util.List.of(\"name\", \"active\", \"job\");"));
+        assertTrue(table.contains("return java.util.List.of();"));
+    }
+
+    @Test
+    void shouldRejectInterfaces() {
+        Compilation compilation = javac()
+            .withProcessors(new RestDocsEasyMetadataProcessor())
+            .compile(JavaFileObjects.forSourceLines("com.example.Named",
+                "package com.example;",
+                "",
+                "@io.github.syakuis.spring.restdocs.easy.processor.RestDocsEasyMetadata",
+                "public interface Named {",
+                "}"));
+
+        assertEquals(Compilation.Status.FAILURE, compilation.status());
+        assertEquals("@RestDocsEasyMetadata is only supported on classes and records",
+            compilation.errors().get(0).getMessage(null));
+    }
+
+    private static Compilation compile(JavaFileObject source) {
+        Compilation compilation = javac()
+            .withProcessors(new RestDocsEasyMetadataProcessor())
+            .compile(source);
+
+        assertEquals(Compilation.Status.SUCCESS, compilation.status(), compilation.diagnostics()::toString);
+        return compilation;
+    }
+
+    private static String generatedTable(Compilation compilation, String qualifiedName) throws IOException {
+        Optional<JavaFileObject> table = compilation.generatedSourceFile(qualifiedName);
+        assertTrue(table.isPresent(), () -> qualifiedName + " was not generated");
+        return table.get().getCharContent(false).toString();
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.syakuis.spring.restdocs.easy.core;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.StringUtils;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares accessor discovery through {@link ClassAccessorIndex} with the previous
+ * exception-driven {@link Class#getMethod(String, Class[])} lookups.
+ *
+ * <p>The DTO is compiled at setup time with the requested number of fields. Fields use the
+ * standard, boolean and fluent accessor styles in turn, and every fifth field has no accessor,
+ * which is the worst case for the exception-driven lookup.</p>
+ *
+ * <pre>{@code
+ * ./gradlew jmh -Pjmh.includes=ClassAccessorIndexBenchmark
+ * }</pre>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClassAccessorIndexBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int fieldCount;
+
+    private Class<?> targetClass;
+    private Field[] fields;
+
+    @Setup
+    public void setUp() throws Exception {
+        targetClass = compileDto(fieldCount);
+        fields = targetClass.getDeclaredFields();
+    }
+
+    @Benchmark
+    public void accessorIndex(Blackhole blackhole) {
+        ClassAccessorIndex accessorIndex = ClassAccessorIndex.of(targetClass);
+        for (Field field : fields) {
+            blackhole.consume(accessorIndex.hasAccessor(field.getName(), field.getType()));
+        }
+    }
+
+    @Benchmark
+    public void exceptionDriven(Blackhole blackhole) {
+        for (Field field : fields) {
+            blackhole.consume(isGetter(targetClass, field.getName(), field.getType()));
+        }
+    }
+
+    private static boolean isGetter(Class<?> targetClass, String fieldName, Class<?> fieldType) {
+        var methodName = StringUtils.capitalize(fieldName);
+
+        return isMethod(targetClass, fieldName, fieldType)
+            || isMethod(targetClass, "get" + methodName, fieldType)
+            || isMethod(targetClass, "is" + methodName, fieldType);
+    }
+
+    private static boolean isMethod(Class<?> targetClass, String methodName, Class<?> fieldType) {
+        try {
+            var method = targetClass.getMethod(methodName);
+            return Modifier.isPublic(method.getModifiers()) && method.getReturnType().equals(fieldType);
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static Class<?> compileDto(int fieldCount) throws IOException, ClassNotFoundException {
+        String className = "BenchmarkDto" + fieldCount;
+        StringBuilder source = new StringBuilder("public class ").append(className).append(" {\n");
+
+        for (int i = 0; i < fieldCount; i++) {
+            String type = i % 3 == 1 ? "boolean" : "String";
+            source.append("    private ").append(type).append(" field").append(i).append(";\n");
+
+            if (i % 5 == 4) {
+                continue;
+            }
+
+            String accessor = switch (i % 3) {
+                case 0 -> "getField" + i;
+                case 1 -> "isField" + i;
+                default -> "field" + i;
+            };
+            source.append("    public ").append(type).append(' ').append(accessor)
+                .append("() { return field").append(i).append("; }\n");
+        }
+        source.append("}\n");
+
+        Path directory = Files.createTempDirectory("restdocs-easy-jmh");
+        Path sourceFile = Files.writeString(directory.resolve(className + ".java"), source);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler.run(null, null, null, "-d", directory.toString(), sourceFile.toString()) != 0) {
+            throw new IllegalStateException("Failed to compile " + sourceFile);
+        }
+
+        URLClassLoader classLoader = new URLClassLoader(new URL[] {directory.toUri().toURL()},
+            ClassAccessorIndexBenchmark.class.getClassLoader());
+        return classLoader.loadClass(className);
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.syakuis.spring.restdocs.easy.snippet;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.restdocs.mustache.Mustache;
+import org.springframework.restdocs.templates.StandardTemplateResourceResolver;
+import org.springframework.restdocs.templates.TemplateEngine;
+import org.springframework.restdocs.templates.TemplateFormats;
+import org.springframework.restdocs.templates.mustache.AsciidoctorTableCellContentLambda;
+import org.springframework.restdocs.templates.mustache.MustacheTemplateEngine;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost per rendered snippet of Spring REST Docs' {@link MustacheTemplateEngine}, which compiles
+ * the template for every snippet, with {@link PrecompiledTemplateEngine}.
+ *
+ * <p>Each invocation compiles and renders the bundled {@code request-fields} template for a table
+ * with the requested number of rows, as a snippet does for every documented operation.</p>
+ *
+ * <pre>{@code
+ * ./gradlew jmh -Pjmh.includes=TemplateEngineBenchmark
+ * }</pre>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemplateEngineBenchmark {
+
+    @Param({"5", "50"})
+    private int rowCount;
+
+    private TemplateEngine mustacheTemplateEngine;
+    private TemplateEngine precompiledTemplateEngine;
+    private Map<String, Object> model;
+
+    @Setup
+    public void setUp() {
+        mustacheTemplateEngine = new MustacheTemplateEngine(
+            new StandardTemplateResourceResolver(TemplateFormats.asciidoctor()),
+            Mustache.compiler().escapeHTML(false),
+            Map.of("tableCellContent", new AsciidoctorTableCellContentLambda()));
+        precompiledTemplateEngine = PrecompiledTemplateEngine.asciidoctor();
+
+        List<Map<String, Object>> fields = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            fields.add(Map.of("path", "field" + i, "type", "String", "description", "Description of field " + i,
+                "optional", i % 2 == 0, "constraints", List.of("Must not be blank")));
+        }
+        model = Map.of("fields", fields);
+    }
+
+    @Benchmark
+    public String mustacheTemplateEngine() throws IOException {
+        return mustacheTemplateEngine.compileTemplate("request-fields").render(model);
+    }
+
+    @Benchmark
+    public String precompiledTemplateEngine() throws IOException {
+        return precompiledTemplateEngine.compileTemplate("request-fields").render(model);
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.syakuis.spring.restdocs.easy.configuration;
+
+import io.github.syakuis.spring.restdocs.easy.generate.RestDocs;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Eagerly builds the descriptors of the classes in the configured packages for "Spring REST Docs Easy".
+ * Runs on a ForkJoin pool while the test context starts, so the memoized descriptors are ready
+ * before the first test documents a request and generation stays off the request/assert path.
+ *
+ * <p>Every concrete top-level or static nested class, record and enum in the packages (including
+ * sub-packages) is generated once without validation groups. Classes that cannot be loaded or
+ * generated are skipped.</p>
+ *
+ * <p>Example configuration:</p>
+ * <pre>{@code
+ * spring:
+ *   test:
+ *     restdocs-easy:
+ *       warmup:
+ *         packages: com.example.api.dto, com.example.user.dto
+ * }</pre>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ * @see RestDocsEasyConfiguration
+ */
+@Slf4j
+public class DescriptorWarmup {
+    private final CompletableFuture<Report> report;
+
+    /**
+     * Starts the warm-up of the given packages on the common ForkJoin pool.
+     *
+     * @param restDocs the RestDocs instance whose descriptor cache is filled
+     * @param packages the base packages to scan
+     * @param classLoader the class loader of the scanned classes
+     */
+    public DescriptorWarmup(RestDocs restDocs, List<String> packages, ClassLoader classLoader) {
+        this(restDocs, packages, classLoader, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Starts the warm-up of the given packages on the given pool. Completes immediately without packages.
+     *
+     * @param restDocs the RestDocs instance whose descriptor cache is filled
+     * @param packages the base packages to scan
+     * @param classLoader the class loader of the scanned classes
+     * @param pool the pool generating the descriptors
+     */
+    public DescriptorWarmup(RestDocs restDocs, List<String> packages, ClassLoader classLoader, ForkJoinPool pool) {
+        this.report = packages.isEmpty()
+            ? CompletableFuture.completedFuture(new Report(0, 0, Duration.ZERO))
+            : CompletableFuture.supplyAsync(() -> warmup(restDocs, packages, classLoader), pool);
+    }
+
+    /**
+     * @return the report of the warm-up, completed once all classes are prepared
+     */
+    public CompletableFuture<Report> report() {
+        return report;
+    }
+
+    /**
+     * Scans the packages and generates the descriptors of the found classes in parallel.
+     * Runs on a pool thread, so the parallel stream shares that pool.
+     */
+    private static Report warmup(RestDocs restDocs, List<String> packages, ClassLoader classLoader) {
+        long started = System.nanoTime();
+        Set<Class<?>> classes = scan(packages, classLoader);
+
+        List<Integer> fields = classes.parallelStream()
+            .map(type -> prepare(restDocs, type))
+            .filter(Objects::nonNull)
+            .toList();
+
+        Report result = new Report(fields.size(), fields.stream().mapToInt(Integer::intValue).sum(),
+            Duration.ofNanos(System.nanoTime() - started));
+        log.info("REST Docs descriptor warm-up prepared {} classes with {} fields in {} ms",
+            result.classes(), result.fields(), result.elapsed().toMillis());
+        return result;
+    }
+
+    /**
+     * Generates the descriptors of a class, which memoizes them in the RestDocs instance.
+     *
+     * @param restDocs the RestDocs instance whose descriptor cache is filled
+     * @param type the class to prepare
+     * @return the number of generated fields, or null if the class could not be generated
+     */
+    private static Integer prepare(RestDocs restDocs, Class<?> type) {
+        try {
+            return restDocs.generate(type).toField().size();
+        } catch (RuntimeException | LinkageError e) {
+            log.debug("Skipped descriptor warm-up of {}", type.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Finds the documentable classes in the given packages.
+     *
+     * @param packages the base packages to scan
+     * @param classLoader the class loader of the scanned classes
+     * @return the loaded classes in scan order
+     */
+    private static Set<Class<?>> scan(List<String> packages, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                var metadata = beanDefinition.getMetadata();
+                return metadata.isIndependent() && metadata.isConcrete();
+            }
+        };
+        scanner.addIncludeFilter((reader, factory) -> true);
+
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (String basePackage : packages) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage.trim())) {
+                try {
+                    classes.add(ClassUtils.forName(candidate.getBeanClassName(), classLoader));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    log.debug("Skipped descriptor warm-up of {}", candidate.getBeanClassName(), e);
+                }
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Outcome of a descriptor warm-up.
+     *
+     * @param classes number of prepared classes
+     * @param fields number of generated field descriptors
+     * @param elapsed time spent scanning and generating
+     */
+    public record Report(int classes, int fields, Duration elapsed) {
+    }
+}
@@ -1,15 +1,31 @@
 package io.github.syakuis.spring.restdocs.easy.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.syakuis.spring.restdocs.easy.generate.RestDocs;
+import io.github.syakuis.spring.restdocs.easy.snippet.PrecompiledTemplateEngine;
+import io.github.syakuis.spring.restdocs.easy.snippet.SkipUnchangedWriterResolver;
+import io.github.syakuis.spring.restdocs.easy.snippet.SnippetStoreTemplateEngine;
+import io.github.syakuis.spring.restdocs.easy.snippet.SnippetStoreWriterResolver;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.context.MessageSourceProperties;
 import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.restdocs.RestDocsMockMvcConfigurationCustomizer;
 import org.springframework.boot.test.autoconfigure.restdocs.RestDocsProperties;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
+import org.springframework.restdocs.snippet.RestDocumentationContextPlaceholderResolverFactory;
+import org.springframework.restdocs.snippet.WriterResolver;
+import org.springframework.restdocs.templates.TemplateEngine;
+import org.springframework.restdocs.templates.TemplateFormat;
+import org.springframework.restdocs.templates.TemplateFormats;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Objects;
 
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.prettyPrint;
@@ -22,13 +38,25 @@ import static org.springframework.restdocs.operation.preprocess.Preprocessors.pr
  * - Configures URI scheme, host, port, and context path for documentation
  * - Integrates with Spring Boot's server properties
  * - Sets up pretty printing for request/response documentation
- * - Configures message source for i18n support
+ * - Optionally leaves snippet files whose content did not change untouched
+ * - Compiles snippet templates of the configured template format once per JVM
+ * - Configures message source for i18n support, with resolved messages cached
  *
  * <p>Configuration properties:</p>
  * - {@code spring.rest-docs-easy.uri-scheme}: URI scheme (defaults to REST Docs property)
  * - {@code spring.rest-docs-easy.uri-host}: Host name (defaults to REST Docs property)
  * - {@code spring.rest-docs-easy.uri-port}: Port number (defaults to REST Docs property)
  * - {@code spring.rest-docs-easy.uri-context-path-ignored}: Whether to ignore context path
+ * - {@code spring.rest-docs-easy.inherited-fields}: Whether to document superclass fields
+ * - {@code spring.rest-docs-easy.jackson-metadata}: Whether to document fields as serialized by the ObjectMapper
+ * - {@code spring.rest-docs-easy.warmup.packages}: Packages whose descriptors are built at startup
+ * - {@code spring.rest-docs-easy.descriptor-cache-dir}: Directory of the persistent descriptor cache
+ * - {@code spring.rest-docs-easy.snippet-writer.skip-unchanged}: Whether unchanged snippet files are left untouched
+ * - {@code spring.rest-docs-easy.snippet-writer.async-queue-capacity}: Snippets queued for background writing
+ * - {@code spring.rest-docs-easy.snippet-writer.store}: Whether snippets are aggregated into one NDJSON file
+ * - {@code spring.rest-docs-easy.snippet-writer.template-format}: Template format of the snippets
+ * - {@code spring.rest-docs-easy.snippet-writer.encoding}: Encoding of the snippet files
+ * - {@code spring.rest-docs-easy.snippet-writer.precompiled-templates}: Whether templates are compiled once per JVM, off by default
  *
  * @author Seok Kyun. Choi.
  * @since 2021-08-14
@@ -43,20 +71,23 @@ public class RestDocsEasyConfiguration {
     private final RestDocsEasyProperties restDocsEasyProperties;
     private final RestDocsProperties restDocsProperties;
     private final ServerProperties serverProperties;
+    private final ObjectProvider<MessageSourceProperties> messageSourceProperties;
+    private final ObjectProvider<ObjectMapper> objectMapper;
 
     /**
      * Customizes Spring REST Docs MockMvc configuration.
-     * Configures URI components and sets up pretty printing for documentation.
+     * Configures URI components, the snippet format and writer and template engine, and sets up pretty printing for documentation.
      *
      * <p>URI configuration priority:</p>
      * 1. REST Docs Easy properties
      * 2. Spring REST Docs properties
      * 3. Server properties (for context path)
      *
+     * @param snippetWriterResolver the writer resolver of the snippet files, if enabled
      * @return RestDocsMockMvcConfigurationCustomizer with configured URI settings
      */
     @Bean
-    public RestDocsMockMvcConfigurationCustomizer restDocsMockMvcConfigurationCustomizer() {
+    public RestDocsMockMvcConfigurationCustomizer restDocsMockMvcConfigurationCustomizer(ObjectProvider<WriterResolver> snippetWriterResolver) {
         var uriScheme = Objects.requireNonNullElse(restDocsEasyProperties.uriScheme(), restDocsProperties.getUriScheme());
         var uriHost = Objects.requireNonNullElse(restDocsEasyProperties.uriHost(), restDocsProperties.getUriHost());
         var uriContextPath = restDocsEasyProperties.uriContextPathIgnored() ? "" :
@@ -67,22 +98,123 @@ public class RestDocsEasyConfiguration {
         restDocsProperties.setUriHost(uriHost + uriContextPath);
         restDocsProperties.setUriPort(uriPort);
 
-        return configurer -> configurer
-            .operationPreprocessors()
-            .withRequestDefaults(prettyPrint())
-            .withResponseDefaults(prettyPrint());
+        var snippetWriter = snippetWriter();
+
+        return configurer -> {
+            if (snippetWriter.templateFormat() != null) {
+                configurer.snippets().withTemplateFormat(templateFormat(snippetWriter));
+            }
+            if (snippetWriter.encoding() != null) {
+                configurer.snippets().withEncoding(snippetWriter.encoding().name());
+            }
+            snippetWriterResolver.ifUnique(configurer::writerResolver);
+            // Opt-in, so a template engine set by the application's own customizer is not replaced by default
+            if (Boolean.TRUE.equals(snippetWriter.precompiledTemplates()) || snippetWriter.store()) {
+                TemplateEngine templateEngine = new PrecompiledTemplateEngine(templateFormat(snippetWriter));
+                // The store keeps the raw model of each snippet next to its content
+                configurer.templateEngine(snippetWriter.store() ? new SnippetStoreTemplateEngine(templateEngine) : templateEngine);
+            }
+
+            configurer.operationPreprocessors()
+                .withRequestDefaults(prettyPrint())
+                .withResponseDefaults(prettyPrint());
+        };
+    }
+
+    /**
+     * Creates the snippet writer resolver replacing Spring REST Docs' standard one, if enabled.
+     * With {@code snippet-writer.skip-unchanged}, only snippet files whose content changed are rewritten,
+     * so unchanged snippets keep their modification time and incremental Asciidoctor builds stay up to date.
+     * With {@code snippet-writer.async-queue-capacity}, snippets are written by a background thread that is
+     * flushed after each test class and when the context is closed. The number of written and skipped
+     * snippets is logged when the context is closed.
+     * With {@code snippet-writer.store}, all snippets are instead appended to one NDJSON snippet store,
+     * together with their raw model recorded by a {@link SnippetStoreTemplateEngine}.
+     * The resolver writes snippets in {@code snippet-writer.template-format} and {@code snippet-writer.encoding}.
+     *
+     * @return the writer resolver
+     * @see SkipUnchangedWriterResolver
+     * @see SnippetStoreWriterResolver
+     * @see SnippetFlushTestExecutionListener
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnExpression("${spring.test.restdocs-easy.snippet-writer.skip-unchanged:false}"
+        + " or ${spring.test.restdocs-easy.snippet-writer.store:false}"
+        + " or ${spring.test.restdocs-easy.snippet-writer.async-queue-capacity:0} > 0")
+    public WriterResolver snippetWriterResolver() {
+        var snippetWriter = snippetWriter();
+        var placeholderResolverFactory = new RestDocumentationContextPlaceholderResolverFactory();
+        var templateFormat = templateFormat(snippetWriter);
+
+        if (snippetWriter.store()) {
+            return new SnippetStoreWriterResolver(placeholderResolverFactory, templateFormat);
+        }
+        return new SkipUnchangedWriterResolver(placeholderResolverFactory,
+            Objects.requireNonNullElse(snippetWriter.encoding(), StandardCharsets.UTF_8), templateFormat,
+            snippetWriter.asyncQueueCapacity());
     }
 
     /**
      * Creates a RestDocs instance configured with message source support.
      * This bean is used for generating API documentation with internationalization support.
+     * Resolved messages are cached for {@code spring.messages.cache-duration}, the interval
+     * at which the auto-configured message source reloads its bundles.
+     * With {@code jackson-metadata} enabled, fields are documented as serialized by the context's ObjectMapper.
      *
      * @return configured RestDocs instance
      * @see RestDocs
      */
     @Bean
     public RestDocs restDocs() {
-        return RestDocs.builder().messageSource(messageSource).build();
+        var properties = messageSourceProperties.getIfAvailable();
+
+        return RestDocs.builder()
+            .messageSource(messageSource)
+            .messageCacheDuration(properties != null ? properties.getCacheDuration() : null)
+            .inheritedFields(restDocsEasyProperties.inheritedFields())
+            .objectMapper(restDocsEasyProperties.jacksonMetadata() ? objectMapper.getIfAvailable(ObjectMapper::new) : null)
+            .descriptorCache(restDocsEasyProperties.descriptorCacheDir())
+            .build();
+    }
+
+    /**
+     * Starts building the descriptors of the classes in {@code warmup.packages} in parallel
+     * while the rest of the test context starts. The outcome is logged and available from
+     * {@link DescriptorWarmup#report()}; without packages, nothing is prepared.
+     *
+     * @param restDocs the RestDocs instance whose descriptors are prepared
+     * @param beanFactory the bean factory providing the class loader
+     * @return the running warm-up
+     * @see DescriptorWarmup
+     */
+    @Bean
+    public DescriptorWarmup descriptorWarmup(RestDocs restDocs, ConfigurableListableBeanFactory beanFactory) {
+        var warmup = restDocsEasyProperties.warmup();
+        var packages = warmup != null && warmup.packages() != null ? warmup.packages() : List.<String>of();
+
+        return new DescriptorWarmup(restDocs, packages, beanFactory.getBeanClassLoader());
+    }
+
+    private RestDocsEasyProperties.SnippetWriter snippetWriter() {
+        return Objects.requireNonNullElseGet(restDocsEasyProperties.snippetWriter(),
+            () -> new RestDocsEasyProperties.SnippetWriter(0, false, false, null, null, null));
     }
-}
 
+    /**
+     * Resolves {@code snippet-writer.template-format}, defaulting to Asciidoctor like Spring REST Docs.
+     *
+     * @param snippetWriter the snippet writer settings
+     * @return the template format of the snippets
+     * @throws IllegalArgumentException if the format is neither {@code asciidoctor} nor {@code markdown}
+     */
+    private static TemplateFormat templateFormat(RestDocsEasyProperties.SnippetWriter snippetWriter) {
+        String id = snippetWriter.templateFormat();
+        if (id == null || TemplateFormats.asciidoctor().getId().equalsIgnoreCase(id)) {
+            return TemplateFormats.asciidoctor();
+        }
+        if (TemplateFormats.markdown().getId().equalsIgnoreCase(id)) {
+            return TemplateFormats.markdown();
+        }
+        throw new IllegalArgumentException("Unknown snippet template format: " + id);
+    }
+}
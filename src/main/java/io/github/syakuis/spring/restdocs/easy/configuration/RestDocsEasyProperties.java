@@ -2,6 +2,10 @@ package io.github.syakuis.spring.restdocs.easy.configuration;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.List;
+
 /**
  * Configuration properties for "Spring REST Docs Easy".
  * Provides customization options for REST API documentation URI components.
@@ -14,6 +18,16 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *   <li>{@code uri-host}: The host name (e.g., "api.example.com")</li>
  *   <li>{@code uri-port}: The port number (e.g., 8080)</li>
  *   <li>{@code uri-context-path-ignored}: Whether to ignore the application's context path in documentation</li>
+ *   <li>{@code inherited-fields}: Whether to document fields declared in superclasses</li>
+ *   <li>{@code jackson-metadata}: Whether to document fields as serialized by the application's ObjectMapper</li>
+ *   <li>{@code warmup.packages}: Packages whose classes get their descriptors built while the test context starts</li>
+ *   <li>{@code descriptor-cache-dir}: Directory of the persistent descriptor cache shared between test runs</li>
+ *   <li>{@code snippet-writer.skip-unchanged}: Whether to leave snippet files whose content did not change untouched</li>
+ *   <li>{@code snippet-writer.async-queue-capacity}: Snippets queued for a background writer thread, 0 writes synchronously</li>
+ *   <li>{@code snippet-writer.store}: Whether to append all snippets to one NDJSON snippet store instead of separate files</li>
+ *   <li>{@code snippet-writer.template-format}: Template format of the snippets, {@code asciidoctor} or {@code markdown}</li>
+ *   <li>{@code snippet-writer.encoding}: Encoding of the snippet files</li>
+ *   <li>{@code snippet-writer.precompiled-templates}: Whether snippet templates are compiled once per JVM, false by default</li>
  * </ul>
  *
  * <p>Example configuration:</p>
@@ -25,6 +39,14 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *       uri-host: api.example.com
  *       uri-port: 443
  *       uri-context-path-ignored: false
+ *       inherited-fields: true
+ *       jackson-metadata: true
+ *       warmup:
+ *         packages: com.example.api.dto
+ *       descriptor-cache-dir: build/restdocs-easy
+ *       snippet-writer:
+ *         skip-unchanged: true
+ *         async-queue-capacity: 256
  * }</pre>
  *
  * @author Seok Kyun. Choi.
@@ -55,6 +77,71 @@ public record RestDocsEasyProperties(
      * Whether to ignore the application's context path in the documented URIs.
      * Default is false, meaning the context path will be included.
      */
-    boolean uriContextPathIgnored
+    boolean uriContextPathIgnored,
+
+    /**
+     * Whether to document fields declared in superclasses of the documented classes.
+     * Default is false, meaning only fields declared by the class itself are documented.
+     */
+    boolean inheritedFields,
+
+    /**
+     * Whether to document fields as serialized by the application's ObjectMapper,
+     * honouring {@code @JsonProperty}, {@code @JsonIgnore}, {@code @JsonUnwrapped} and the naming strategy.
+     * Default is false, meaning fields are documented as declared in the class.
+     */
+    boolean jacksonMetadata,
+
+    /**
+     * Eager descriptor generation at test-context startup.
+     * If not specified, descriptors are built on first use.
+     */
+    Warmup warmup,
+
+    /**
+     * Directory in which generated descriptors are kept between test runs, e.g. {@code build/restdocs-easy}.
+     * If not specified, descriptors are generated again in every run.
+     */
+    Path descriptorCacheDir,
+
+    /**
+     * How snippet files are written.
+     * If not specified, snippets are written by Spring REST Docs' standard writer resolver.
+     */
+    SnippetWriter snippetWriter
 ) {
+    /**
+     * Descriptor warm-up settings.
+     *
+     * @param packages base packages whose classes are prepared; empty disables the warm-up
+     * @see DescriptorWarmup
+     */
+    public record Warmup(List<String> packages) {
+    }
+
+    /**
+     * Snippet writer settings. Spring REST Docs' standard writer resolver is replaced only if
+     * {@code skipUnchanged}, {@code asyncQueueCapacity} or {@code store} is set.
+     * The template format and encoding are applied to the snippet configuration as well, so that
+     * the replacing writer resolver and the precompiling template engine always match it; set them here rather than in a
+     * {@code RestDocsMockMvcConfigurationCustomizer}.
+     *
+     * @param asyncQueueCapacity maximum number of rendered snippets waiting for the background writer thread;
+     *                           0 writes snippets synchronously. Implies {@code skipUnchanged}
+     * @param store whether all snippets are appended to one {@code snippets.ndjson} file in the output directory
+     *              instead of being written as separate files, together with the raw model of each snippet,
+     *              which installs the precompiling template engine; the queue capacity does not apply then
+     * @param skipUnchanged whether snippet files whose content did not change are left untouched
+     * @param templateFormat the id of the snippet template format, {@code asciidoctor} or {@code markdown};
+     *                       null for Spring REST Docs' default, Asciidoctor
+     * @param encoding the encoding of the snippet files; null for Spring REST Docs' default, UTF-8
+     * @param precompiledTemplates whether snippet templates of the template format are compiled once per JVM;
+     *                             true installs the precompiling template engine, null or false leaves Spring
+     *                             REST Docs' engine, or one set by another customizer, in place
+     * @see io.github.syakuis.spring.restdocs.easy.snippet.SkipUnchangedWriterResolver
+     * @see io.github.syakuis.spring.restdocs.easy.snippet.SnippetStoreWriterResolver
+     */
+    public record SnippetWriter(int asyncQueueCapacity, boolean store, boolean skipUnchanged, String templateFormat,
+                                Charset encoding, Boolean precompiledTemplates) {
+    }
 }
@@ -0,0 +1,35 @@
+package io.github.syakuis.spring.restdocs.easy.configuration;
+
+import io.github.syakuis.spring.restdocs.easy.snippet.SkipUnchangedWriterResolver;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+/**
+ * Test execution listener for "Spring REST Docs Easy" that waits for the snippets of a test class
+ * to be written when they are written in the background. A failed snippet write is thrown from
+ * {@link #afterTestClass(TestContext)}, failing the test class and therefore the build.
+ *
+ * <p>The listener is registered as a default listener in {@code META-INF/spring.factories}. Test classes that
+ * declare their own {@code @TestExecutionListeners} replace the default listeners, so they must use
+ * {@code mergeMode = MERGE_WITH_DEFAULTS} or list this listener to keep it. Test contexts without
+ * a {@link SkipUnchangedWriterResolver} are left alone.</p>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ * @see AutoConfigureMvcRestDocs
+ * @see SkipUnchangedWriterResolver#flush()
+ */
+public class SnippetFlushTestExecutionListener extends AbstractTestExecutionListener {
+    @Override
+    public void afterTestClass(TestContext testContext) throws Exception {
+        if (!testContext.hasApplicationContext()) {
+            return;
+        }
+
+        SkipUnchangedWriterResolver writerResolver = testContext.getApplicationContext()
+            .getBeanProvider(SkipUnchangedWriterResolver.class).getIfAvailable();
+        if (writerResolver != null) {
+            writerResolver.flush();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.syakuis.spring.restdocs.easy.core;
+
+/**
+ * Immutable snapshot of the hit and miss counters of a "Spring REST Docs Easy" cache.
+ * Counters are collected without locking, so a snapshot taken while other threads
+ * are generating documentation is approximate.
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * CacheStatistics statistics = ClassMetadataGenerator.statistics();
+ * log.info("metadata cache hit rate: {}", statistics.hitRate());
+ * }</pre>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ *
+ * @param hitCount number of lookups answered from the cache
+ * @param missCount number of lookups that had to compute a new value
+ */
+public record CacheStatistics(long hitCount, long missCount) {
+
+    /**
+     * Returns the total number of lookups.
+     *
+     * @return the sum of hits and misses
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Returns the ratio of lookups answered from the cache.
+     *
+     * @return a value between 0.0 and 1.0, or 1.0 if there were no lookups
+     */
+    public double hitRate() {
+        long requestCount = requestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
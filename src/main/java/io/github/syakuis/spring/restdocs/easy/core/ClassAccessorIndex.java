@@ -0,0 +1,98 @@
+package io.github.syakuis.spring.restdocs.easy.core;
+
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One-pass index of the public accessor methods of a class for "Spring REST Docs Easy".
+ * The index is built by scanning {@link Class#getMethods()} once into a name to return type
+ * table, so resolving the accessor of a field never throws {@link NoSuchMethodException}.
+ *
+ * <p>Supported accessor patterns:</p>
+ * - Record classes: canonical accessors, resolved from {@link RecordComponent} directly
+ * - Fluent style: field 'name' → method 'name()'
+ * - Standard style: field 'name' → method 'getName()'
+ * - Boolean style: field 'active' → method 'isActive()'
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * ClassAccessorIndex index = ClassAccessorIndex.of(UserDto.class);
+ * boolean readable = index.hasAccessor("email", String.class);
+ * }</pre>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+final class ClassAccessorIndex {
+    private final boolean record;
+    private final Map<String, Class<?>> accessors;
+
+    private ClassAccessorIndex(boolean record, Map<String, Class<?>> accessors) {
+        this.record = record;
+        this.accessors = accessors;
+    }
+
+    /**
+     * Builds the accessor index for the given class.
+     * For record classes only the record components are indexed. For other classes every public
+     * method without parameters is indexed. When a method name appears more than once, e.g. because
+     * of covariant return types, the most specific return type is kept, as {@link Class#getMethod} does.
+     *
+     * @param targetClass the class whose accessors are indexed
+     * @return a new accessor index
+     */
+    static ClassAccessorIndex of(Class<?> targetClass) {
+        if (targetClass.isRecord()) {
+            RecordComponent[] components = targetClass.getRecordComponents();
+            Map<String, Class<?>> accessors = HashMap.newHashMap(components.length);
+            for (RecordComponent component : components) {
+                accessors.put(component.getName(), component.getType());
+            }
+            return new ClassAccessorIndex(true, accessors);
+        }
+
+        Method[] methods = targetClass.getMethods();
+        Map<String, Class<?>> accessors = HashMap.newHashMap(methods.length);
+        for (Method method : methods) {
+            if (method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+                continue;
+            }
+
+            accessors.merge(method.getName(), method.getReturnType(),
+                (existing, candidate) -> existing.isAssignableFrom(candidate) ? candidate : existing);
+        }
+        return new ClassAccessorIndex(false, accessors);
+    }
+
+    /**
+     * Checks whether the field has a public accessor returning exactly the field type.
+     * Record classes only accept the canonical accessor, other classes accept the fluent,
+     * standard and boolean patterns.
+     *
+     * @param fieldName The name of the field to find an accessor for
+     * @param fieldType The expected return type of the accessor
+     * @return true if a matching accessor exists, false otherwise
+     */
+    boolean hasAccessor(String fieldName, Class<?> fieldType) {
+        if (fieldName.isBlank()) {
+            return false;
+        }
+
+        if (isAccessor(fieldName, fieldType)) {
+            return true;
+        } else if (record) {
+            return false;
+        }
+
+        var methodName = StringUtils.capitalize(fieldName);
+        return isAccessor("get" + methodName, fieldType) || isAccessor("is" + methodName, fieldType);
+    }
+
+    private boolean isAccessor(String methodName, Class<?> fieldType) {
+        return fieldType.equals(accessors.get(methodName));
+    }
+}
@@ -1,10 +1,13 @@
 package io.github.syakuis.spring.restdocs.easy.core;
 
 import lombok.Builder;
+import org.springframework.core.ResolvableType;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -17,6 +20,7 @@ import java.util.Objects;
  * - Support for validation annotations processing
  * - Class and package information for context
  * - Reflection capabilities for field access
+ * - Resolved generic type for collection elements, map values and type variables
  *
  * <p>Example usage:</p>
  * <pre>{@code
@@ -30,6 +34,7 @@ import java.util.Objects;
  *     .target(UserDto.class)
  *     .field(UserDto.class.getDeclaredField("email"))
  *     .annotations(field.getAnnotations())
+ *     .genericType(ResolvableType.forField(field, UserDto.class))
  *     .build();
  * }</pre>
  *
@@ -38,13 +43,15 @@ import java.util.Objects;
  *
  * @param packageName The package name of the class containing the field (e.g., "com.example.api")
  * @param className The simple name of the class containing the field (e.g., "UserDto")
- * @param name The field name as declared in the class (e.g., "email")
+ * @param name The documented field name, as declared in the class or as serialized (e.g., "email")
  * @param packageClassName The fully qualified class name (e.g., "com.example.api.UserDto")
  * @param canonicalName The canonical name of the field's type (e.g., "java.lang.String")
  * @param type The Class object representing the field's type (e.g., String.class)
  * @param target The Class object of the declaring class (e.g., UserDto.class)
  * @param field The Field object for reflection operations
  * @param annotations Array of annotations on the field (e.g., @NotNull, @Email)
+ * @param genericType The generic type of the field, resolved against the documented class
+ *                    (e.g., {@code List<AddressDto>} for a {@code List<T>} field bound by a subclass)
  */
 @Builder
 public record ClassFieldMetadata(
@@ -56,8 +63,51 @@ public record ClassFieldMetadata(
     Class<?> type,
     Class<?> target,
     Field field,
-    Annotation[] annotations
+    Annotation[] annotations,
+    ResolvableType genericType
 ) {
+    /**
+     * Returns the Java name of the property, which is the key of its messages and validation constraints.
+     * Differs from {@link #name()} when the name is taken from the serialized JSON, e.g. {@code @JsonProperty}.
+     *
+     * @return the field name, or {@link #name()} if there is no field
+     */
+    public String propertyName() {
+        return field != null ? field.getName() : name;
+    }
+
+    /**
+     * Returns the field type with type variables resolved, e.g. {@code AddressDto} for a field
+     * declared as {@code T} in a superclass bound to {@code AddressDto}.
+     *
+     * @return the resolved field type, or {@link #type()} if it cannot be resolved
+     */
+    public Class<?> resolvedType() {
+        return genericType != null ? genericType.resolve(type) : type;
+    }
+
+    /**
+     * Returns the type of the values held by the field: the component type of an array,
+     * the element type of a collection or the value type of a map.
+     *
+     * @return the resolved element type, or null if the field is not a container or the type cannot be resolved
+     */
+    public Class<?> elementType() {
+        if (genericType == null) {
+            return null;
+        }
+        if (genericType.isArray()) {
+            return genericType.getComponentType().resolve();
+        }
+        if (Collection.class.isAssignableFrom(resolvedType())) {
+            return genericType.asCollection().resolveGeneric(0);
+        }
+        if (Map.class.isAssignableFrom(resolvedType())) {
+            return genericType.asMap().resolveGeneric(1);
+        }
+        return null;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -72,7 +122,8 @@ public record ClassFieldMetadata(
             && Objects.equals(packageName, that.packageName)
             && Objects.equals(type, that.type)
             && Objects.equals(canonicalName, that.canonicalName)
-            && Arrays.equals(annotations, that.annotations);
+            && Arrays.equals(annotations, that.annotations)
+            && Objects.equals(genericType, that.genericType);
     }
 
     @Override
@@ -86,6 +137,7 @@ public record ClassFieldMetadata(
         result = 31 * result + Objects.hashCode(target);
         result = 31 * result + Objects.hashCode(field);
         result = 31 * result + Arrays.hashCode(annotations);
+        result = 31 * result + Objects.hashCode(genericType);
         return result;
     }
 
@@ -101,6 +153,7 @@ public record ClassFieldMetadata(
             ", target=" + target +
             ", field=" + field +
             ", annotations=" + Arrays.toString(annotations) +
+            ", genericType=" + genericType +
             '}';
     }
 }
@@ -1,11 +1,21 @@
 package io.github.syakuis.spring.restdocs.easy.core;
 
+import org.springframework.core.ResolvableType;
 import org.springframework.util.StringUtils;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
 
 /**
  * Core metadata generator for "Spring REST Docs Easy" that analyzes class fields
@@ -22,11 +32,26 @@ import java.util.List;
  * 1. Retrieve all declared fields of the target class
  * 2. For each field, verify:
  *    - If it's an Enum type
- *    - If it has a valid getter method:
+ *    - If it has a valid getter method, resolved from a {@link ClassAccessorIndex}:
  *      - For regular classes: checks standard, fluent, and boolean getter patterns
  *      - For record classes: checks canonical accessor methods
  * 3. Generate {@link ClassFieldMetadata} for qualifying fields
  *
+ * <p>Classes annotated for the optional {@code RestDocsEasyMetadataProcessor} ship a generated
+ * {@code <ClassName>_RestDocsEasyMetadata} table listing the qualifying field names and those of them
+ * that carry annotations. When that table is present, the accessor discovery is skipped, the fields are
+ * resolved in a single pass over the declared fields and only the listed fields have their annotations
+ * read. The {@link Field} objects themselves are still needed for constraints and generic types.</p>
+ *
+ * <p>The generated metadata, including the generic field types resolved against the class, is cached
+ * per class in a {@link ClassValue}, so repeated calls for the same DTO skip reflection entirely. The cache is stored on the {@link Class} itself,
+ * which makes it safe for parallel test execution and lets the cached metadata be collected
+ * together with the class loader of a closed test context.</p>
+ *
+ * <p>{@link #toHierarchyList()} additionally merges the fields of the superclasses. Each level of the
+ * hierarchy is generated and cached on its own, so a base class shared by many DTOs is reflected once;
+ * only fields whose type refers to a type variable are re-resolved for each subclass.</p>
+ *
  * <p>Example usage:</p>
  * <pre>{@code
  * // Generate metadata for a DTO class
@@ -34,6 +59,11 @@ import java.util.List;
  *     .of(UserDto.class)
  *     .toList();
  *
+ * // Generate metadata for a DTO class and its superclasses
+ * List<ClassFieldMetadata> inheritedMetadata = ClassMetadataGenerator
+ *     .of(UserResponse.class)
+ *     .toHierarchyList();
+ *
  * // Generate metadata for an Enum
  * List<ClassFieldMetadata> enumMetadata = ClassMetadataGenerator
  *     .of(UserStatus.class)
@@ -44,6 +74,38 @@ import java.util.List;
  * @since 2024-06-16
  */
 public final class ClassMetadataGenerator {
+    /**
+     * Suffix of the field table generated at compile time by {@code RestDocsEasyMetadataProcessor}.
+     */
+    private static final String GENERATED_SUFFIX = "_RestDocsEasyMetadata";
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    private static final LongAdder REQUEST_COUNT = new LongAdder();
+    private static final LongAdder MISS_COUNT = new LongAdder();
+
+    /**
+     * Per-class cache of the immutable metadata list.
+     * {@link ClassValue#computeValue(Class)} is only invoked on a cache miss.
+     */
+    private static final ClassValue<List<ClassFieldMetadata>> METADATA = new ClassValue<>() {
+        @Override
+        protected List<ClassFieldMetadata> computeValue(Class<?> type) {
+            MISS_COUNT.increment();
+            return new ClassMetadataGenerator(type).generate();
+        }
+    };
+
+    /**
+     * Per-class cache of the metadata merged over the superclass chain.
+     */
+    private static final ClassValue<List<ClassFieldMetadata>> HIERARCHY = new ClassValue<>() {
+        @Override
+        protected List<ClassFieldMetadata> computeValue(Class<?> type) {
+            return new ClassMetadataGenerator(type).generateHierarchy();
+        }
+    };
+
     private final Class<?> targetClass;
 
     /**
@@ -57,73 +119,81 @@ public final class ClassMetadataGenerator {
     }
 
     /**
-     * Checks if a method is a getter method in a record class.
-     * Record classes have automatically generated canonical accessor methods that match the field names exactly.
-     * <p>
-     * For example, for a record field 'name':
-     * - The getter method will be exactly 'name()'
+     * Returns the list of field metadata for the target class.
+     * The list is generated on first access and served from the per-class cache afterwards.
+     * The returned list is unmodifiable and shared between callers.
      *
-     * @param targetClass The class to check for the getter method
-     * @param fieldName The name of the field to find a getter for
-     * @param fieldType The expected return type of the getter method
-     * @return true if a matching getter method exists, false otherwise
+     * @return A list of {@link ClassFieldMetadata} objects representing the qualifying fields
      */
-    private boolean isRecordGetter(Class<?> targetClass, String fieldName, Class<?> fieldType) {
-        if (fieldName.isBlank() || targetClass == null) {
-            return false;
-        }
+    public List<ClassFieldMetadata> toList() {
+        REQUEST_COUNT.increment();
+        return METADATA.get(targetClass);
+    }
 
-        return isMethod(targetClass, fieldName, fieldType);
+    /**
+     * Returns the list of field metadata for the target class and its superclasses.
+     * Superclass fields come first; a field declared again in a subclass shadows the parent field
+     * at the parent's position. JDK superclasses are not included.
+     * The returned list is unmodifiable and shared between callers.
+     *
+     * @return A list of {@link ClassFieldMetadata} objects representing the qualifying fields of the hierarchy
+     */
+    public List<ClassFieldMetadata> toHierarchyList() {
+        return HIERARCHY.get(targetClass);
     }
 
     /**
-     * Checks if a method is a getter method in a regular class.
-     * Supports three getter method patterns:
-     * <p>
-     * 1. Fluent style: field 'name' → method 'name()'
-     * 2. Standard style: field 'name' → method 'getName()'
-     * 3. Boolean style: field 'active' → method 'isActive()'
+     * Merges the cached metadata of each level of the superclass chain, from the topmost superclass down.
+     * Inherited fields keep the metadata of their declaring class, so their messages are looked up under
+     * that class; fields whose generic type uses a type variable are resolved against the target class.
      *
-     * @param targetClass The class to check for the getter method
-     * @param fieldName The name of the field to find a getter for
-     * @param fieldType The expected return type of the getter method
-     * @return true if any matching getter pattern is found, false otherwise
+     * @return the merged metadata
      */
-    private boolean isGetter(Class<?> targetClass, String fieldName, Class<?> fieldType) {
-        if (fieldName.isBlank() || targetClass == null) {
-            return false;
+    private List<ClassFieldMetadata> generateHierarchy() {
+        Deque<Class<?>> levels = new ArrayDeque<>();
+        for (Class<?> type = targetClass; isDocumentedLevel(type); type = type.getSuperclass()) {
+            levels.push(type);
+        }
+        if (levels.size() <= 1 || targetClass.isEnum()) {
+            return of(targetClass).toList();
         }
 
-        // Generate getter method name
-        var methodName = fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+        Map<String, ClassFieldMetadata> merged = new LinkedHashMap<>();
+        for (Class<?> level : levels) {
+            for (ClassFieldMetadata metadata : of(level).toList()) {
+                merged.put(metadata.name(), level == targetClass ? metadata : bindToTarget(metadata));
+            }
+        }
+        return List.copyOf(merged.values());
+    }
 
-        // Check for fluent method
-        if (isMethod(targetClass, fieldName, fieldType)) {
-            return true;
-        } else if (isMethod(targetClass, "get" + methodName, fieldType)) {
-            return true;
-        } else return isMethod(targetClass, "is" + methodName, fieldType);
+    private static boolean isDocumentedLevel(Class<?> type) {
+        return type != null && type != Object.class && !type.isInterface() && !type.getName().startsWith("java.");
     }
 
     /**
-     * Verifies the existence of a public method with specified name and return type.
-     * This method checks:
-     * - Method existence
-     * - Public access modifier
-     * - Matching return type
+     * Re-resolves the generic type of an inherited field against the target class,
+     * e.g. {@code List<T>} declared in {@code PageResponse<T>} becomes {@code List<UserDto>}.
      *
-     * @param targetClass The class to check for the method
-     * @param methodName The exact name of the method to find
-     * @param fieldType The expected return type of the method
-     * @return true if a matching public method exists, false otherwise
+     * @param metadata the metadata of the declaring class
+     * @return the same metadata if its type does not use a type variable, otherwise a copy with the resolved type
      */
-    private boolean isMethod(Class<?> targetClass, String methodName, Class<?> fieldType) {
-        try {
-            var method = targetClass.getMethod(methodName);
-            return Modifier.isPublic(method.getModifiers()) && method.getReturnType().equals(fieldType);
-        } catch (NoSuchMethodException e) {
-            return false;
+    private ClassFieldMetadata bindToTarget(ClassFieldMetadata metadata) {
+        if (metadata.field() == null || metadata.field().getGenericType() instanceof Class) {
+            return metadata;
         }
+
+        return new ClassFieldMetadata(
+            metadata.packageName(),
+            metadata.className(),
+            metadata.name(),
+            metadata.packageClassName(),
+            metadata.canonicalName(),
+            metadata.type(),
+            metadata.target(),
+            metadata.field(),
+            metadata.annotations(),
+            ResolvableType.forField(metadata.field(), targetClass));
     }
 
     /**
@@ -142,18 +212,12 @@ public final class ClassMetadataGenerator {
      *
      * @return A list of {@link ClassFieldMetadata} objects representing the qualifying fields
      */
-    public List<ClassFieldMetadata> toList() {
+    private List<ClassFieldMetadata> generate() {
         var packageName = targetClass.getPackageName();
         var className = targetClass.getSimpleName();
         var name = targetClass.getName();
         var canonicalName = targetClass.getCanonicalName();
 
-        Field[] fields = targetClass.getDeclaredFields();
-
-        TriPredicate<Class<?>, String, Class<?>> isGetter = targetClass.isRecord() ?
-            this::isRecordGetter :
-            this::isGetter;
-
         if (targetClass.isEnum()) {
             return List.of(
                 new ClassFieldMetadata(
@@ -165,12 +229,15 @@ public final class ClassMetadataGenerator {
                     targetClass,
                     targetClass,
                     null,
-                    null)
+                    null,
+                    ResolvableType.forClass(targetClass))
             );
         }
 
-        return Arrays.stream(fields)
-            .filter(field -> field.getType().isEnum() || isGetter.test(targetClass, field.getName(), field.getType()))
+        GeneratedFields generatedFields = findGeneratedFields();
+        Stream<Field> fields = generatedFields != null ? generatedFields.fields().stream() : discoverFields();
+
+        return fields
             .map(field -> new ClassFieldMetadata(
                 packageName,
                 className,
@@ -180,10 +247,85 @@ public final class ClassMetadataGenerator {
                 field.getType(),
                 targetClass,
                 field,
-                field.getAnnotations()))
+                generatedFields == null || generatedFields.annotated(field) ? field.getAnnotations() : NO_ANNOTATIONS,
+                ResolvableType.forField(field, targetClass)))
             .toList();
     }
 
+    /**
+     * Discovers the qualifying fields of the target class through reflection.
+     * A field qualifies when it is an Enum type or has a getter in the {@link ClassAccessorIndex}.
+     *
+     * @return the qualifying declared fields
+     */
+    private Stream<Field> discoverFields() {
+        ClassAccessorIndex accessorIndex = ClassAccessorIndex.of(targetClass);
+
+        return Arrays.stream(targetClass.getDeclaredFields())
+            .filter(field -> field.getType().isEnum() || accessorIndex.hasAccessor(field.getName(), field.getType()));
+    }
+
+    /**
+     * Reads the fields listed in the table generated at compile time for the target class.
+     * The table class is named after the flattened binary name of the target class,
+     * e.g. {@code com.example.Outer$Inner} → {@code com.example.Outer_Inner_RestDocsEasyMetadata}.
+     * Tables generated without {@code annotatedFields()} have the annotations of every field read.
+     *
+     * @return the listed fields, or null if there is no table or it does not match the class
+     */
+    private GeneratedFields findGeneratedFields() {
+        var packageName = targetClass.getPackageName();
+        var binaryName = targetClass.getName();
+        var simpleName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        var generatedName = (packageName.isEmpty() ? "" : packageName + ".") + simpleName.replace('$', '_') + GENERATED_SUFFIX;
+
+        try {
+            Class<?> generatedClass = Class.forName(generatedName, false, targetClass.getClassLoader());
+            List<?> names = (List<?>) generatedClass.getMethod("fields").invoke(null);
+            Set<?> annotatedNames = annotatedFields(generatedClass);
+
+            Map<String, Field> declaredFields = new HashMap<>();
+            for (Field field : targetClass.getDeclaredFields()) {
+                declaredFields.put(field.getName(), field);
+            }
+
+            List<Field> fields = new ArrayList<>(names.size());
+            for (Object name : names) {
+                Field field = declaredFields.get((String) name);
+                if (field == null) {
+                    return null;
+                }
+                fields.add(field);
+            }
+            return new GeneratedFields(fields, annotatedNames);
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            // A stale or foreign table must not break documentation; fall back to reflection.
+            return null;
+        }
+    }
+
+    private static Set<?> annotatedFields(Class<?> generatedClass) throws ReflectiveOperationException {
+        try {
+            return Set.copyOf((List<?>) generatedClass.getMethod("annotatedFields").invoke(null));
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Fields read from a generated table.
+     *
+     * @param fields the listed fields, in declaration order
+     * @param annotatedNames the names of the fields that carry annotations, or null if the table does not list them
+     */
+    private record GeneratedFields(List<Field> fields, Set<?> annotatedNames) {
+        boolean annotated(Field field) {
+            return annotatedNames == null || annotatedNames.contains(field.getName());
+        }
+    }
+
     /**
      * Factory method to create a new instance of ClassMetadataGenerator.
      * This is the preferred way to instantiate this class instead of using the private constructor directly.
@@ -194,4 +336,15 @@ public final class ClassMetadataGenerator {
     public static ClassMetadataGenerator of(Class<?> targetClass) {
         return new ClassMetadataGenerator(targetClass);
     }
+
+    /**
+     * Returns the hit and miss counters of the shared metadata cache.
+     * Counters are global for the JVM and are never reset.
+     *
+     * @return a snapshot of the cache statistics
+     */
+    public static CacheStatistics statistics() {
+        long missCount = MISS_COUNT.sum();
+        return new CacheStatistics(Math.max(0, REQUEST_COUNT.sum() - missCount), missCount);
+    }
 }
\ No newline at end of file
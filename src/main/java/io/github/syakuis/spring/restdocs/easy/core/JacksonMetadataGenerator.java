@@ -0,0 +1,190 @@
+package io.github.syakuis.spring.restdocs.easy.core;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import org.springframework.core.ResolvableType;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Metadata generator for "Spring REST Docs Easy" driven by Jackson's serialization introspection.
+ * Field names and the set of documented fields follow the JSON produced by the given {@link ObjectMapper},
+ * so the documented paths match the serialized payload.
+ *
+ * <p>Honoured Jackson features:</p>
+ * - {@code @JsonProperty} renames and the configured {@code PropertyNamingStrategy}
+ * - {@code @JsonIgnore}, {@code @JsonIgnoreProperties} and other property exclusions
+ * - {@code @JsonView}, when generating for a view
+ * - {@code @JsonUnwrapped}, whose properties are flattened into the enclosing object
+ *
+ * <p>Metadata of properties backed by a field keeps the field, so validation constraints and messages are
+ * still resolved by the Java field name ({@link ClassFieldMetadata#propertyName()}). Properties without
+ * a field, e.g. getter-only properties, have no field and are treated as unconstrained.</p>
+ *
+ * <p>The metadata is cached per (class, view) for the lifetime of the generator, which should therefore
+ * share the lifetime of its ObjectMapper. Enum classes are described by {@link ClassMetadataGenerator}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * JacksonMetadataGenerator generator = new JacksonMetadataGenerator(objectMapper);
+ *
+ * List<ClassFieldMetadata> metadata = generator.toList(UserDto.class);
+ * List<ClassFieldMetadata> publicMetadata = generator.toList(UserDto.class, Views.Public.class);
+ * }</pre>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+public final class JacksonMetadataGenerator {
+    private final ObjectMapper objectMapper;
+    private final Map<MetadataKey, List<ClassFieldMetadata>> metadata = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a generator using the serialization configuration of the given ObjectMapper.
+     *
+     * @param objectMapper the ObjectMapper that serializes the documented payloads
+     */
+    public JacksonMetadataGenerator(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the metadata of the serialized properties of a class without an active view.
+     *
+     * @param targetClass the class to analyze
+     * @return an unmodifiable list of metadata in serialization order
+     */
+    public List<ClassFieldMetadata> toList(Class<?> targetClass) {
+        return toList(targetClass, null);
+    }
+
+    /**
+     * Returns the metadata of the properties of a class that are serialized for the given view.
+     *
+     * @param targetClass the class to analyze
+     * @param view the active {@code @JsonView}, or null for none
+     * @return an unmodifiable list of metadata in serialization order
+     */
+    public List<ClassFieldMetadata> toList(Class<?> targetClass, Class<?> view) {
+        if (targetClass.isEnum()) {
+            return ClassMetadataGenerator.of(targetClass).toList();
+        }
+        return metadata.computeIfAbsent(new MetadataKey(targetClass, view), it -> generate(targetClass, view));
+    }
+
+    private List<ClassFieldMetadata> generate(Class<?> targetClass, Class<?> view) {
+        SerializationConfig config = objectMapper.getSerializationConfig();
+        if (view != null) {
+            config = config.withView(view);
+        }
+
+        List<ClassFieldMetadata> result = new ArrayList<>();
+        collect(config, targetClass, NameTransformer.NOP, new HashSet<>(), result);
+        return List.copyOf(result);
+    }
+
+    /**
+     * Adds the serialized properties of a type, flattening unwrapped properties into the same list.
+     *
+     * @param config the serialization configuration, with the active view
+     * @param type the type whose properties are added
+     * @param names the transformer of the enclosing {@code @JsonUnwrapped} properties
+     * @param unwrapping the types being unwrapped, to stop cycles
+     * @param result the list the metadata is added to
+     */
+    private void collect(SerializationConfig config, Class<?> type, NameTransformer names,
+                         Set<Class<?>> unwrapping, List<ClassFieldMetadata> result) {
+        BeanDescription description = config.introspect(config.constructType(type));
+
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            if (!property.couldSerialize() || !isIncludedInView(config, property)) {
+                continue;
+            }
+
+            AnnotatedMember accessor = property.getAccessor();
+            NameTransformer unwrapper = accessor != null
+                ? config.getAnnotationIntrospector().findUnwrappingNameTransformer(accessor)
+                : null;
+            if (unwrapper != null) {
+                Class<?> unwrappedType = property.getRawPrimaryType();
+                if (unwrapping.add(unwrappedType)) {
+                    collect(config, unwrappedType, NameTransformer.chainedTransformer(names, unwrapper), unwrapping, result);
+                    unwrapping.remove(unwrappedType);
+                }
+                continue;
+            }
+
+            result.add(toMetadata(type, names.transform(property.getName()), property));
+        }
+    }
+
+    private boolean isIncludedInView(SerializationConfig config, BeanPropertyDefinition property) {
+        Class<?> activeView = config.getActiveView();
+        if (activeView == null) {
+            return true;
+        }
+
+        Class<?>[] views = property.findViews();
+        if (views == null || views.length == 0) {
+            return config.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION);
+        }
+        for (Class<?> view : views) {
+            if (view.isAssignableFrom(activeView)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ClassFieldMetadata toMetadata(Class<?> type, String name, BeanPropertyDefinition property) {
+        Field field = property.hasField() ? property.getField().getAnnotated() : null;
+        AnnotatedMethod getter = property.getGetter();
+
+        ResolvableType genericType;
+        Annotation[] annotations;
+        if (field != null) {
+            genericType = ResolvableType.forField(field, type);
+            annotations = field.getAnnotations();
+        } else if (getter != null) {
+            genericType = ResolvableType.forMethodReturnType(getter.getAnnotated(), type);
+            annotations = getter.getAnnotated().getAnnotations();
+        } else {
+            genericType = ResolvableType.forClass(property.getRawPrimaryType());
+            annotations = new Annotation[0];
+        }
+
+        return new ClassFieldMetadata(
+            type.getPackageName(),
+            type.getSimpleName(),
+            name,
+            type.getName(),
+            type.getCanonicalName(),
+            property.getRawPrimaryType(),
+            type,
+            field,
+            annotations,
+            genericType);
+    }
+
+    /**
+     * Cache key of the generated metadata.
+     *
+     * @param targetClass the analyzed class
+     * @param view the active view, or null for none
+     */
+    private record MetadataKey(Class<?> targetClass, Class<?> view) {
+    }
+}
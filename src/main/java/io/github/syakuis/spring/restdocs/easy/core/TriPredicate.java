@@ -29,7 +29,9 @@ package io.github.syakuis.spring.restdocs.easy.core;
  *
  * @see java.util.function.Predicate
  * @see java.util.function.BiPredicate
+ * @deprecated no longer used, getters are resolved by {@link ClassAccessorIndex}; to be removed in the next major version
  */
+@Deprecated(forRemoval = true)
 @FunctionalInterface
 public interface TriPredicate<A, B, C> {
 
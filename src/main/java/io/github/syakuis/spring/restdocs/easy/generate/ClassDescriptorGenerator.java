@@ -2,11 +2,23 @@ package io.github.syakuis.spring.restdocs.easy.generate;
 
 import io.github.syakuis.spring.restdocs.easy.core.ClassFieldMetadata;
 import io.github.syakuis.spring.restdocs.easy.core.ClassMetadataGenerator;
+import io.github.syakuis.spring.restdocs.easy.core.JacksonMetadataGenerator;
 import org.springframework.context.MessageSource;
+import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.restdocs.snippet.Attributes;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Core descriptor generator for "Spring REST Docs Easy" that creates documentation
@@ -19,6 +31,10 @@ import java.util.List;
  * - Supports validation groups for conditional validation
  * - Provides i18n support through message source
  * - Handles nested structures with prefix support
+ * - Memoizes descriptors per class, set of validation groups and locale, until the messages are reloaded
+ * - Recursive mode that documents nested object, collection and map element types
+ * - Optional inclusion of fields declared in superclasses
+ * - Optional Jackson mode that documents the serialized property names
  *
  * <p>Example usage:</p>
  * <pre>{@code
@@ -38,6 +54,9 @@ import java.util.List;
  *     "user",
  *     UserDto.class
  * );
+ *
+ * // Generate descriptors for UserDto and its nested types, e.g. "addresses[].city"
+ * List<Descriptor> recursiveDescriptors = generator.generateRecursive(null, UserDto.class, 3);
  * }</pre>
  *
  * @author Seok Kyun. Choi.
@@ -45,6 +64,38 @@ import java.util.List;
  */
 public class ClassDescriptorGenerator extends DescriptionMessageSource {
     private final JsonFieldTypeMapper jsonFieldTypeMapper;
+    private final boolean inheritedFields;
+    private final JacksonMetadataGenerator jacksonMetadataGenerator;
+    private final Class<?> jsonView;
+    private final DescriptorDiskCache diskCache;
+
+    /**
+     * Default maximum nesting depth of {@link #generateRecursive(String, Class, Class[])}.
+     */
+    public static final int DEFAULT_MAX_DEPTH = 5;
+
+    /**
+     * Unprefixed descriptors per class, order-insensitive set of validation groups and default locale.
+     * Descriptors are immutable, so the cached instances are handed out directly.
+     */
+    private final Map<DescriptorKey, List<Descriptor>> descriptors = new ConcurrentHashMap<>();
+
+    /**
+     * Prefixed copies of the memoized descriptors per cache key and prefix, together with the
+     * unprefixed list they were copied from, so that they are rebuilt when that list is.
+     */
+    private final Map<PrefixKey, PrefixedDescriptors> prefixedDescriptors = new ConcurrentHashMap<>();
+
+    /**
+     * Recursively generated descriptors per class, validation groups, default locale and remaining depth,
+     * with paths relative to the class.
+     */
+    private final Map<SubtreeKey, Subtree> subtrees = new ConcurrentHashMap<>();
+
+    /**
+     * Message generation the cached descriptors were built in.
+     */
+    private volatile long descriptorsGeneration;
 
     /**
      * Creates a new descriptor generator for "Spring REST Docs Easy".
@@ -53,8 +104,58 @@ public class ClassDescriptorGenerator extends DescriptionMessageSource {
      * @param jsonFieldTypeMapper mapper for converting Java types to Spring REST Docs JsonFieldType
      */
     public ClassDescriptorGenerator(MessageSource messageSource, JsonFieldTypeMapper jsonFieldTypeMapper) {
+        this(messageSource, jsonFieldTypeMapper, false);
+    }
+
+    /**
+     * Creates a new descriptor generator for "Spring REST Docs Easy".
+     *
+     * @param messageSource source for resolving i18n messages (e.g., "{user.email.description}")
+     * @param jsonFieldTypeMapper mapper for converting Java types to Spring REST Docs JsonFieldType
+     * @param inheritedFields whether fields declared in superclasses are documented as well
+     * @see ClassMetadataGenerator#toHierarchyList()
+     */
+    public ClassDescriptorGenerator(MessageSource messageSource, JsonFieldTypeMapper jsonFieldTypeMapper, boolean inheritedFields) {
+        this(messageSource, jsonFieldTypeMapper, inheritedFields, null, null);
+    }
+
+    /**
+     * Creates a new descriptor generator for "Spring REST Docs Easy" that takes the documented fields
+     * from Jackson's serialization introspection. Jackson decides about inherited properties,
+     * so {@code inheritedFields} only applies without a Jackson metadata generator.
+     *
+     * @param messageSource source for resolving i18n messages (e.g., "{user.email.description}")
+     * @param jsonFieldTypeMapper mapper for converting Java types to Spring REST Docs JsonFieldType
+     * @param inheritedFields whether fields declared in superclasses are documented as well
+     * @param jacksonMetadataGenerator source of the serialized properties, or null to use the declared fields
+     * @param jsonView the active {@code @JsonView}, or null for none
+     * @see JacksonMetadataGenerator
+     */
+    public ClassDescriptorGenerator(MessageSource messageSource, JsonFieldTypeMapper jsonFieldTypeMapper, boolean inheritedFields,
+                                    JacksonMetadataGenerator jacksonMetadataGenerator, Class<?> jsonView) {
+        this(messageSource, jsonFieldTypeMapper, inheritedFields, jacksonMetadataGenerator, jsonView, null);
+    }
+
+    /**
+     * Creates a new descriptor generator for "Spring REST Docs Easy" backed by a persistent descriptor cache.
+     * The disk cache is not used in Jackson mode, whose ObjectMapper configuration cannot be fingerprinted,
+     * nor once the message source has been reloaded.
+     *
+     * @param messageSource source for resolving i18n messages (e.g., "{user.email.description}")
+     * @param jsonFieldTypeMapper mapper for converting Java types to Spring REST Docs JsonFieldType
+     * @param inheritedFields whether fields declared in superclasses are documented as well
+     * @param jacksonMetadataGenerator source of the serialized properties, or null to use the declared fields
+     * @param jsonView the active {@code @JsonView}, or null for none
+     * @param diskCache the descriptors of previous runs, or null for none
+     */
+    ClassDescriptorGenerator(MessageSource messageSource, JsonFieldTypeMapper jsonFieldTypeMapper, boolean inheritedFields,
+                             JacksonMetadataGenerator jacksonMetadataGenerator, Class<?> jsonView, DescriptorDiskCache diskCache) {
         super(messageSource);
         this.jsonFieldTypeMapper = jsonFieldTypeMapper;
+        this.inheritedFields = inheritedFields;
+        this.jacksonMetadataGenerator = jacksonMetadataGenerator;
+        this.jsonView = jsonView;
+        this.diskCache = jacksonMetadataGenerator == null ? diskCache : null;
     }
 
     /**
@@ -71,6 +172,8 @@ public class ClassDescriptorGenerator extends DescriptionMessageSource {
 
     /**
      * Generates descriptors for a class with optional prefix and validation groups.
+     * Descriptors are built once per class, set of validation groups and default locale and shared between calls;
+     * the prefixed copies are memoized per prefix. Only the unprefixed descriptors are interned.
      *
      * <p>Examples of prefix usage:</p>
      * - "user" → fields become "user.name", "user.email"
@@ -83,13 +186,305 @@ public class ClassDescriptorGenerator extends DescriptionMessageSource {
      * @return list of descriptors for documentation
      */
     public List<Descriptor> generate(String prefix, Class<?> targetClass, Class<?>... validGroups) {
-        ClassFieldConstraintDescriptions constraintDescriptions = new ClassFieldConstraintDescriptions(targetClass);
+        var key = new DescriptorKey(targetClass, Set.copyOf(Arrays.asList(validGroups)), Locale.getDefault());
+        List<Descriptor> cached = cachedDescriptors(key, validGroups);
+        if (prefix == null) {
+            return cached;
+        }
+
+        var prefixKey = new PrefixKey(key, prefix);
+        PrefixedDescriptors memoized = prefixedDescriptors.get(prefixKey);
+        if (memoized == null || memoized.source() != cached) {
+            memoized = new PrefixedDescriptors(cached, cached.stream().map(descriptor -> descriptor.withPrefix(prefix)).toList());
+            prefixedDescriptors.put(prefixKey, memoized);
+        }
+        return memoized.descriptors();
+    }
+
+    /**
+     * Generates descriptors for a class and, recursively, for the nested types of its fields
+     * up to {@link #DEFAULT_MAX_DEPTH} levels.
+     *
+     * @param prefix optional prefix for nested structures (can be null)
+     * @param targetClass the class to generate descriptors for
+     * @param validGroups optional validation groups to consider
+     * @return list of descriptors for documentation
+     * @see #generateRecursive(String, Class, int, Class[])
+     */
+    public List<Descriptor> generateRecursive(String prefix, Class<?> targetClass, Class<?>... validGroups) {
+        return generateRecursive(prefix, targetClass, DEFAULT_MAX_DEPTH, validGroups);
+    }
+
+    /**
+     * Generates descriptors for a class and, recursively, for the nested types of its fields.
+     * Each nested field is documented itself, followed by the fields of its type:
+     *
+     * <p>Nested paths:</p>
+     * - object field {@code b} → "b.c"
+     * - collection or array field {@code b} → "b[].c"
+     * - map field {@code b} → "b.*.c"
+     *
+     * <p>Only types that map to {@code OBJECT} and are not JDK types are expanded. A type that is already
+     * being expanded on the current path is not expanded again, which stops cycles. The subtree of each
+     * type is built once and re-prefixed wherever the type appears.</p>
+     *
+     * @param prefix optional prefix for nested structures (can be null)
+     * @param targetClass the class to generate descriptors for
+     * @param maxDepth maximum number of nested levels to expand; 0 behaves like {@link #generate(String, Class, Class[])}
+     * @param validGroups optional validation groups to consider
+     * @return list of descriptors for documentation
+     */
+    public List<Descriptor> generateRecursive(String prefix, Class<?> targetClass, int maxDepth, Class<?>... validGroups) {
+        Subtree subtree = subtree(targetClass, Math.max(0, maxDepth), validGroups, new LinkedHashSet<>());
+        if (prefix == null) {
+            return subtree.descriptors();
+        }
+
+        return subtree.descriptors().stream()
+            .map(descriptor -> descriptor.withPrefix(concat(prefix, descriptor.prefix())))
+            .toList();
+    }
+
+    /**
+     * Returns the memoized unprefixed descriptors of a class, building them on first access.
+     *
+     * @param targetClass the class to generate descriptors for
+     * @param validGroups validation groups to consider
+     * @return unmodifiable list of descriptors
+     */
+    private List<Descriptor> cachedDescriptors(Class<?> targetClass, Class<?>... validGroups) {
+        return cachedDescriptors(new DescriptorKey(targetClass, Set.copyOf(Arrays.asList(validGroups)), Locale.getDefault()), validGroups);
+    }
+
+    /**
+     * Returns the memoized unprefixed descriptors for a cache key, building them on first access.
+     *
+     * @param key the cache key
+     * @param validGroups validation groups to consider
+     * @return unmodifiable list of descriptors
+     */
+    private List<Descriptor> cachedDescriptors(DescriptorKey key, Class<?>... validGroups) {
+        Class<?> targetClass = key.targetClass();
+        long generation = currentGeneration();
+
+        List<Descriptor> cached = descriptors.get(key);
+        if (cached == null) {
+            cached = diskCache != null && generation == 0
+                ? persistentDescriptors(targetClass, key.validGroups(), validGroups)
+                : generateDescriptors(targetClass, validGroups);
+            // Descriptors built while another thread reloaded the messages must not outlive the reload
+            if (messageGeneration() == generation) {
+                List<Descriptor> existing = descriptors.putIfAbsent(key, cached);
+                cached = existing != null ? existing : cached;
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * Drops the memoized descriptors and subtrees if the messages were reloaded since they were built.
+     * Callers must only publish values they built if the generation is still current afterwards.
+     *
+     * @return the current message generation
+     */
+    private long currentGeneration() {
+        long generation = messageGeneration();
+        if (generation != descriptorsGeneration) {
+            descriptors.clear();
+            prefixedDescriptors.clear();
+            subtrees.clear();
+            descriptorsGeneration = generation;
+        }
+        return generation;
+    }
+
+    /**
+     * Returns the descriptors of a class from the disk cache, generating and storing them if
+     * the class, one of its superclasses or the enum types of its fields changed.
+     * The lookup does not reflect over the class; its field metadata is only read on a miss.
+     *
+     * @param targetClass the class to generate descriptors for
+     * @param groups the validation groups as a set
+     * @param validGroups validation groups to consider
+     * @return unmodifiable list of descriptors
+     */
+    private List<Descriptor> persistentDescriptors(Class<?> targetClass, Set<Class<?>> groups, Class<?>... validGroups) {
+        List<Descriptor> stored = diskCache.get(targetClass, groups);
+        if (stored != null) {
+            return stored;
+        }
+
+        List<Descriptor> generated = generateDescriptors(targetClass, validGroups);
+
+        Set<Class<?>> dependencies = new LinkedHashSet<>();
+        for (ClassFieldMetadata fieldMetadata : metadata(targetClass)) {
+            dependencies.add(fieldMetadata.target());
+            if (fieldMetadata.type().isEnum()) {
+                dependencies.add(fieldMetadata.type());
+            }
+        }
+        diskCache.put(targetClass, groups, dependencies, generated);
+        return generated;
+    }
+
+    /**
+     * Builds the descriptors of a class and its nested types with paths relative to the class.
+     * A subtree is memoized unless it was cut short by a type that is expanded further up the path,
+     * since the same type reached from elsewhere would be expanded deeper. A memoized subtree is only
+     * reused where none of its types is already being expanded, so that cycles are still stopped.
+     *
+     * @param targetClass the class to expand
+     * @param depth remaining number of nested levels to expand
+     * @param validGroups validation groups to consider
+     * @param path the types being expanded on the current path
+     * @return the descriptors of the subtree and the ancestor types it was cut at
+     */
+    private Subtree subtree(Class<?> targetClass, int depth, Class<?>[] validGroups, Set<Class<?>> path) {
+        var key = new SubtreeKey(targetClass, Set.copyOf(Arrays.asList(validGroups)), Locale.getDefault(), depth);
+        long generation = currentGeneration();
+        Subtree memoized = subtrees.get(key);
+        if (memoized != null && Collections.disjoint(memoized.types(), path)) {
+            return memoized;
+        }
+
+        List<Descriptor> fields = cachedDescriptors(targetClass, validGroups);
+        if (depth == 0) {
+            return new Subtree(fields, Set.of(targetClass), Set.of());
+        }
+
+        path.add(targetClass);
+        List<Descriptor> result = new ArrayList<>();
+        Set<Class<?>> types = new HashSet<>(Set.of(targetClass));
+        Set<Class<?>> cutAt = new HashSet<>();
+        Map<String, ClassFieldMetadata> metadata = fieldMetadata(targetClass);
+
+        for (Descriptor descriptor : fields) {
+            result.add(descriptor);
+
+            ClassFieldMetadata fieldMetadata = metadata.get(descriptor.name());
+            NestedType nested = fieldMetadata != null ? nestedType(fieldMetadata) : null;
+            if (nested == null) {
+                continue;
+            }
+            if (path.contains(nested.type())) {
+                cutAt.add(nested.type());
+                continue;
+            }
+
+            Subtree child = subtree(nested.type(), depth - 1, validGroups, path);
+            types.addAll(child.types());
+            cutAt.addAll(child.cutAt());
+            String childPrefix = descriptor.name() + nested.separator();
+            for (Descriptor childDescriptor : child.descriptors()) {
+                result.add(childDescriptor.withPrefix(childPrefix + nullToEmpty(childDescriptor.prefix())));
+            }
+        }
+        path.remove(targetClass);
+        cutAt.remove(targetClass);
+
+        Subtree subtree = new Subtree(List.copyOf(result), Set.copyOf(types), Set.copyOf(cutAt));
+        // Like cachedDescriptors, a subtree built across a message reload is not memoized
+        if (cutAt.isEmpty() && messageGeneration() == generation) {
+            subtrees.putIfAbsent(key, subtree);
+        }
+        return subtree;
+    }
+
+    /**
+     * Indexes the field metadata of a class by field name.
+     *
+     * @param targetClass the class whose fields are indexed
+     * @return field metadata per field name
+     */
+    private Map<String, ClassFieldMetadata> fieldMetadata(Class<?> targetClass) {
+        Map<String, ClassFieldMetadata> result = new HashMap<>();
+        for (ClassFieldMetadata fieldMetadata : metadata(targetClass)) {
+            result.putIfAbsent(fieldMetadata.name(), fieldMetadata);
+        }
+        return result;
+    }
+
+    /**
+     * Determines the type to expand for a field and the path separator leading to its fields.
+     * Element and value types come from the generic field type resolved against the documented class.
+     *
+     * @param fieldMetadata the field to inspect
+     * @return the nested type, or null if the field is not expanded
+     */
+    private NestedType nestedType(ClassFieldMetadata fieldMetadata) {
+        if (fieldMetadata.field() == null) {
+            return null;
+        }
+
+        Class<?> type = fieldMetadata.resolvedType();
+        if (type.isArray() || Collection.class.isAssignableFrom(type)) {
+            Class<?> element = fieldMetadata.elementType();
+            return expandable(element) ? new NestedType(element, "[].") : null;
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            Class<?> value = fieldMetadata.elementType();
+            return expandable(value) ? new NestedType(value, ".*.") : null;
+        }
+        return expandable(type) ? new NestedType(type, ".") : null;
+    }
+
+    /**
+     * Returns the field metadata of a class, from Jackson if configured, otherwise
+     * the declared fields including superclass fields if enabled.
+     *
+     * @param targetClass the class to analyze
+     * @return the cached field metadata
+     */
+    private List<ClassFieldMetadata> metadata(Class<?> targetClass) {
+        if (jacksonMetadataGenerator != null) {
+            return jacksonMetadataGenerator.toList(targetClass, jsonView);
+        }
+
+        ClassMetadataGenerator generator = ClassMetadataGenerator.of(targetClass);
+        return inheritedFields ? generator.toHierarchyList() : generator.toList();
+    }
+
+    /**
+     * Checks whether a type is documented as a nested object with fields of its own.
+     *
+     * @param type the type to check, may be null
+     * @return true if the fields of the type should be expanded
+     */
+    private boolean expandable(Class<?> type) {
+        return type != null
+            && !type.isPrimitive()
+            && !type.isArray()
+            && !type.isEnum()
+            && !type.getName().startsWith("java.")
+            && jsonFieldTypeMapper.get(type) == JsonFieldType.OBJECT;
+    }
+
+    private static String concat(String prefix, String relativePrefix) {
+        String result = nullToEmpty(prefix) + nullToEmpty(relativePrefix);
+        return result.isEmpty() ? null : result;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * Builds the unprefixed descriptors of a class by analyzing its fields,
+     * validation constraints and messages.
+     *
+     * @param targetClass the class to generate descriptors for
+     * @param validGroups validation groups to consider
+     * @return unmodifiable list of descriptors
+     */
+    private List<Descriptor> generateDescriptors(Class<?> targetClass, Class<?>... validGroups) {
+        Map<Class<?>, ClassFieldConstraintDescriptions> constraintDescriptions = new HashMap<>();
         FieldOptionalValidator fieldOptionalValidator = new FieldOptionalValidator(Arrays.stream(validGroups).toList());
 
-        return ClassMetadataGenerator.of(targetClass).toList().stream().map(fieldMetadata -> {
+        return metadata(targetClass).stream().map(fieldMetadata -> {
                 boolean hasConstraints = fieldOptionalValidator.hasValidationConstraint(fieldMetadata.field());
 
-                return buildDescriptor(prefix, fieldMetadata, hasConstraints, fieldOptionalValidator, constraintDescriptions);
+                return buildDescriptor(fieldMetadata, hasConstraints, fieldOptionalValidator,
+                    constraintDescriptions.computeIfAbsent(fieldMetadata.target(), ClassFieldConstraintDescriptions::new)).intern();
             }
         ).toList();
     }
@@ -99,21 +494,18 @@ public class ClassDescriptorGenerator extends DescriptionMessageSource {
      * Handles both enum and regular fields differently, applying appropriate
      * constraints and optional status.
      *
-     * @param prefix Prefix for the field path
      * @param fieldMetadata Metadata about the field
      * @param hasConstraints Whether the field has validation constraints
      * @param fieldOptionalValidator Validator for determining field optionality
      * @param constraintDescriptions Provider of constraint descriptions
      * @return A complete field descriptor
      */
-    private Descriptor buildDescriptor(String prefix,
-                                       ClassFieldMetadata fieldMetadata,
+    private Descriptor buildDescriptor(ClassFieldMetadata fieldMetadata,
                                        boolean hasConstraints,
                                        FieldOptionalValidator fieldOptionalValidator,
                                        ClassFieldConstraintDescriptions constraintDescriptions) {
         if (fieldMetadata.target().isEnum()) {
             return Descriptor.builder()
-                .prefix(prefix)
                 .name(fieldMetadata.name())
                 .type(jsonFieldTypeMapper.get(fieldMetadata.type()))
                 .description(super.getMessage(fieldMetadata))
@@ -124,13 +516,70 @@ public class ClassDescriptorGenerator extends DescriptionMessageSource {
         }
 
         return Descriptor.builder()
-            .prefix(prefix)
             .name(fieldMetadata.name())
-            .type(jsonFieldTypeMapper.get(fieldMetadata.type()))
+            .type(jsonFieldTypeMapper.get(fieldMetadata.resolvedType()))
             .description(super.getMessage(fieldMetadata))
             .optional(fieldOptionalValidator.isFieldOptional(fieldMetadata.field()))
             .ignore(false)
-            .attributes(hasConstraints ? constraintDescriptions.getConstraints(fieldMetadata.name()) : new Attributes.Attribute[0])
+            .attributes(hasConstraints ? constraintDescriptions.getConstraints(fieldMetadata.propertyName()) : new Attributes.Attribute[0])
             .build();
     }
+
+    /**
+     * Cache key of the memoized descriptors.
+     *
+     * @param targetClass the documented class
+     * @param validGroups the validation groups, compared regardless of order and duplicates
+     * @param locale the locale the descriptions were resolved in
+     */
+    private record DescriptorKey(Class<?> targetClass, Set<Class<?>> validGroups, Locale locale) {
+    }
+
+    /**
+     * Cache key of memoized prefixed descriptors.
+     *
+     * @param key the key of the unprefixed descriptors
+     * @param prefix the prefix applied to them
+     */
+    private record PrefixKey(DescriptorKey key, String prefix) {
+    }
+
+    /**
+     * Prefixed copies of memoized descriptors.
+     *
+     * @param source the unprefixed descriptors the copies were made from
+     * @param descriptors the prefixed descriptors
+     */
+    private record PrefixedDescriptors(List<Descriptor> source, List<Descriptor> descriptors) {
+    }
+
+    /**
+     * Cache key of a memoized subtree.
+     *
+     * @param targetClass the root class of the subtree
+     * @param validGroups the validation groups, compared regardless of order and duplicates
+     * @param locale the locale the descriptions were resolved in
+     * @param depth the remaining number of nested levels
+     */
+    private record SubtreeKey(Class<?> targetClass, Set<Class<?>> validGroups, Locale locale, int depth) {
+    }
+
+    /**
+     * Descriptors of a subtree with paths relative to its root.
+     *
+     * @param descriptors the descriptors of the subtree
+     * @param types the types expanded in the subtree, including its root
+     * @param cutAt the types on the enclosing path at which the subtree was not expanded
+     */
+    private record Subtree(List<Descriptor> descriptors, Set<Class<?>> types, Set<Class<?>> cutAt) {
+    }
+
+    /**
+     * A type to expand for a field.
+     *
+     * @param type the nested type
+     * @param separator the path separator between the field name and the nested fields
+     */
+    private record NestedType(Class<?> type, String separator) {
+    }
 }
\ No newline at end of file
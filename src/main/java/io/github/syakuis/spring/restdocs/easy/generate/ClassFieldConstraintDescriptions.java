@@ -1,8 +1,19 @@
 package io.github.syakuis.spring.restdocs.easy.generate;
 
+import io.github.syakuis.spring.restdocs.easy.core.ClassFieldMetadata;
+import io.github.syakuis.spring.restdocs.easy.core.ClassMetadataGenerator;
+import org.springframework.restdocs.constraints.ConstraintDescriptionResolver;
 import org.springframework.restdocs.constraints.ConstraintDescriptions;
+import org.springframework.restdocs.constraints.ConstraintResolver;
+import org.springframework.restdocs.constraints.ResourceBundleConstraintDescriptionResolver;
+import org.springframework.restdocs.constraints.ValidatorConstraintResolver;
 import org.springframework.restdocs.snippet.Attributes;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import static org.springframework.restdocs.snippet.Attributes.key;
 
 /**
@@ -38,21 +49,46 @@ import static org.springframework.restdocs.snippet.Attributes.key;
  * // Results in: "Must not be null\n\nMust be between 3 and 50 characters"
  * }</pre>
  *
+ * <p>Constraint descriptions are resolved in one batch for all documented fields of a class and cached
+ * per class and locale. The Bean Validation metadata and the constraint description bundles are therefore
+ * walked once per class, no matter how many times the class is documented.</p>
+ *
  * @author Seok Kyun. Choi.
  * @since 2024-10-18
  * @see org.springframework.restdocs.constraints.ConstraintDescriptions
  * @see jakarta.validation.constraints
  */
 class ClassFieldConstraintDescriptions {
-    private final ConstraintDescriptions constraintDescriptions;
+    /**
+     * Resolved constraint attributes per class, locale and property name.
+     */
+    private static final ClassValue<Map<Locale, Map<String, Attributes.Attribute[]>>> CONSTRAINTS = new ClassValue<>() {
+        @Override
+        protected Map<Locale, Map<String, Attributes.Attribute[]>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Constraint description resolvers per locale. The resolver loads its resource bundles
+     * for the default locale when it is created, so it is keyed by that locale.
+     */
+    private static final Map<Locale, ConstraintDescriptionResolver> DESCRIPTION_RESOLVERS = new ConcurrentHashMap<>();
+
+    private final Class<?> targetClass;
+    private final Locale locale;
+    private final Map<String, Attributes.Attribute[]> constraints;
 
     /**
      * Creates a new constraint description handler for "Spring REST Docs Easy".
+     * Descriptions are resolved for the default locale.
      *
      * @param targetClass the class whose fields' constraints will be described
      */
     ClassFieldConstraintDescriptions(Class<?> targetClass) {
-        this.constraintDescriptions = new ConstraintDescriptions(targetClass);
+        this.targetClass = targetClass;
+        this.locale = Locale.getDefault();
+        this.constraints = CONSTRAINTS.get(targetClass).computeIfAbsent(locale, it -> describeFields());
     }
 
     /**
@@ -64,8 +100,44 @@ class ClassFieldConstraintDescriptions {
      * @return an array containing a single attribute with all constraint descriptions
      */
     public Attributes.Attribute[] getConstraints(String fieldName) {
+        Attributes.Attribute[] attributes = constraints.get(fieldName);
+        return attributes != null ? attributes : describe(constraintDescriptions(), fieldName);
+    }
+
+    /**
+     * Resolves the constraint descriptions of every documented field of the target class,
+     * including inherited fields, in one batch.
+     *
+     * @return constraint attributes per field name
+     */
+    private Map<String, Attributes.Attribute[]> describeFields() {
+        ConstraintDescriptions constraintDescriptions = constraintDescriptions();
+
+        Map<String, Attributes.Attribute[]> result = new HashMap<>();
+        for (ClassFieldMetadata fieldMetadata : ClassMetadataGenerator.of(targetClass).toHierarchyList()) {
+            if (fieldMetadata.field() != null) {
+                result.put(fieldMetadata.name(), describe(constraintDescriptions, fieldMetadata.name()));
+            }
+        }
+        return Map.copyOf(result);
+    }
+
+    private ConstraintDescriptions constraintDescriptions() {
+        return new ConstraintDescriptions(targetClass, ConstraintResolverHolder.INSTANCE,
+            DESCRIPTION_RESOLVERS.computeIfAbsent(locale, it -> new ResourceBundleConstraintDescriptionResolver()));
+    }
+
+    private static Attributes.Attribute[] describe(ConstraintDescriptions constraintDescriptions, String fieldName) {
         return new Attributes.Attribute[] {
             key("constraints").value(String.join("\n\n", constraintDescriptions.descriptionsForProperty(fieldName)))
         };
     }
-}
+
+    /**
+     * Lazily creates the shared Bean Validation based constraint resolver.
+     * Building the validator factory is expensive, and the resulting validator is thread-safe.
+     */
+    private static final class ConstraintResolverHolder {
+        private static final ConstraintResolver INSTANCE = new ValidatorConstraintResolver();
+    }
+}
\ No newline at end of file
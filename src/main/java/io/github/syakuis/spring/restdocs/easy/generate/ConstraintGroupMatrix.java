@@ -0,0 +1,340 @@
+package io.github.syakuis.spring.restdocs.easy.generate;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.*;
+
+/**
+ * Per-class matrix of the validation groups under which each field is mandatory or constrained
+ * for "Spring REST Docs Easy".
+ *
+ * <p>Key features:</p>
+ * - Scans the validation annotations of the declared fields of a class once
+ * - Indexes the distinct validation groups referenced by the class
+ * - Stores, per field, a bitset of groups under which it is mandatory and a bitset under which it has any constraint
+ * - Answers mandatory and constraint checks for any group combination with a bitset intersection
+ * - Exposes the group coverage of each field for auditing
+ *
+ * <p>A field is mandatory if it has a {@code @NotNull}, {@code @NotEmpty} or {@code @NotBlank} annotation,
+ * and constrained if it has any annotation marked with {@link Constraint}. An annotation without groups
+ * applies to every group combination; an annotation with groups applies when one of its groups is requested.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * ConstraintGroupMatrix matrix = ConstraintGroupMatrix.of(MemberRequest.class);
+ *
+ * // Which groups does the class use at all?
+ * List<Class<?>> groups = matrix.groups();
+ *
+ * // Under which groups is "email" mandatory?
+ * matrix.field("email").map(ConstraintGroupMatrix.FieldGroups::mandatoryGroups);
+ *
+ * // Is "email" mandatory when documenting the Create group?
+ * boolean mandatory = matrix.isMandatory("email", List.of(Create.class));
+ * }</pre>
+ *
+ * <p>Matrices are immutable and cached per class in a {@link ClassValue}.</p>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ * @see FieldOptionalValidator
+ */
+public final class ConstraintGroupMatrix {
+    /**
+     * List of validation annotations that indicate a field is mandatory.
+     */
+    private static final List<Class<? extends Annotation>> MANDATORY_ANNOTATIONS = List.of(NotNull.class, NotEmpty.class, NotBlank.class);
+
+    private static final MethodType GROUPS_TYPE = MethodType.methodType(Class[].class, Annotation.class);
+
+    /**
+     * Per annotation type: whether it is a constraint or mandatory annotation, and its {@code groups()} accessor.
+     */
+    private static final ClassValue<AnnotationType> ANNOTATION_TYPES = new ClassValue<>() {
+        @Override
+        protected AnnotationType computeValue(Class<?> type) {
+            return AnnotationType.of(type);
+        }
+    };
+
+    private static final ClassValue<ConstraintGroupMatrix> MATRICES = new ClassValue<>() {
+        @Override
+        protected ConstraintGroupMatrix computeValue(Class<?> type) {
+            return new ConstraintGroupMatrix(type);
+        }
+    };
+
+    private static final Row EMPTY_ROW = new Row(false, false, new BitSet(), new BitSet());
+
+    private final Class<?> targetClass;
+
+    /**
+     * The distinct groups referenced by the class. Bit {@code i} of every row refers to {@code groups.get(i)}.
+     */
+    private final List<Class<?>> groups;
+
+    /**
+     * Rows of the matrix by field name, in declaration order.
+     */
+    private final Map<String, Row> rows;
+
+    private ConstraintGroupMatrix(Class<?> targetClass) {
+        this.targetClass = targetClass;
+
+        List<Class<?>> groupIndex = new ArrayList<>();
+        Map<String, Row> fieldRows = new LinkedHashMap<>();
+        for (Field field : targetClass.getDeclaredFields()) {
+            fieldRows.put(field.getName(), Row.of(field, groupIndex));
+        }
+
+        this.groups = List.copyOf(groupIndex);
+        this.rows = Collections.unmodifiableMap(fieldRows);
+    }
+
+    /**
+     * Returns the constraint matrix of the given class.
+     * The matrix is built on first access and served from the per-class cache afterwards.
+     *
+     * @param targetClass the class whose declared fields are analyzed
+     * @return the shared, immutable matrix of the class
+     */
+    public static ConstraintGroupMatrix of(Class<?> targetClass) {
+        return MATRICES.get(targetClass);
+    }
+
+    /**
+     * @return the analyzed class
+     */
+    public Class<?> targetClass() {
+        return targetClass;
+    }
+
+    /**
+     * Returns the distinct validation groups referenced by the constraint annotations of the class,
+     * in order of first appearance.
+     *
+     * @return the referenced groups
+     */
+    public List<Class<?>> groups() {
+        return groups;
+    }
+
+    /**
+     * Returns the group coverage of every declared field, in declaration order.
+     *
+     * @return the coverage of each field
+     */
+    public List<FieldGroups> fields() {
+        return rows.keySet().stream().map(this::toFieldGroups).toList();
+    }
+
+    /**
+     * Returns the group coverage of a declared field.
+     *
+     * @param fieldName the name of the field
+     * @return the coverage of the field, or empty if the class does not declare it
+     */
+    public Optional<FieldGroups> field(String fieldName) {
+        return rows.containsKey(fieldName) ? Optional.of(toFieldGroups(fieldName)) : Optional.empty();
+    }
+
+    /**
+     * Checks whether the field is mandatory when documenting the given groups.
+     *
+     * @param fieldName the name of the field
+     * @param validationGroups the requested validation groups
+     * @return true if a mandatory annotation applies to the requested groups
+     */
+    public boolean isMandatory(String fieldName, Collection<Class<?>> validationGroups) {
+        return isMandatory(fieldName, groupMask(validationGroups));
+    }
+
+    /**
+     * Checks whether the field has any constraint when documenting the given groups.
+     *
+     * @param fieldName the name of the field
+     * @param validationGroups the requested validation groups
+     * @return true if a constraint annotation applies to the requested groups
+     */
+    public boolean hasConstraint(String fieldName, Collection<Class<?>> validationGroups) {
+        return hasConstraint(fieldName, groupMask(validationGroups));
+    }
+
+    /**
+     * Translates validation groups into a bitmask over {@link #groups()}.
+     * Groups that are not referenced by the class are dropped.
+     *
+     * @param validationGroups the requested validation groups
+     * @return bit {@code i} is set if {@code groups().get(i)} is requested
+     */
+    BitSet groupMask(Collection<Class<?>> validationGroups) {
+        BitSet mask = new BitSet(groups.size());
+        for (int i = 0; i < groups.size(); i++) {
+            if (validationGroups.contains(groups.get(i))) {
+                mask.set(i);
+            }
+        }
+        return mask;
+    }
+
+    boolean isMandatory(String fieldName, BitSet groupMask) {
+        Row row = row(fieldName);
+        return row.mandatoryWithoutGroups() || row.mandatoryGroups().intersects(groupMask);
+    }
+
+    boolean hasConstraint(String fieldName, BitSet groupMask) {
+        Row row = row(fieldName);
+        return row.constraintWithoutGroups() || row.constraintGroups().intersects(groupMask);
+    }
+
+    private Row row(String fieldName) {
+        return rows.getOrDefault(fieldName, EMPTY_ROW);
+    }
+
+    private FieldGroups toFieldGroups(String fieldName) {
+        Row row = row(fieldName);
+        return new FieldGroups(
+            fieldName,
+            row.mandatoryWithoutGroups(),
+            row.constraintWithoutGroups(),
+            toGroups(row.mandatoryGroups()),
+            toGroups(row.constraintGroups()));
+    }
+
+    private Set<Class<?>> toGroups(BitSet mask) {
+        Set<Class<?>> result = new LinkedHashSet<>();
+        mask.stream().forEach(i -> result.add(groups.get(i)));
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * Group coverage of a single field.
+     *
+     * @param fieldName the name of the field
+     * @param mandatoryInAllGroups whether a mandatory annotation without groups is present
+     * @param constrainedInAllGroups whether a constraint annotation without groups is present
+     * @param mandatoryGroups groups under which a grouped mandatory annotation applies
+     * @param constraintGroups groups under which a grouped constraint annotation applies
+     */
+    public record FieldGroups(
+        String fieldName,
+        boolean mandatoryInAllGroups,
+        boolean constrainedInAllGroups,
+        Set<Class<?>> mandatoryGroups,
+        Set<Class<?>> constraintGroups
+    ) {
+    }
+
+    /**
+     * One row of the matrix.
+     *
+     * @param mandatoryWithoutGroups whether a mandatory annotation applies to all groups
+     * @param constraintWithoutGroups whether a constraint annotation applies to all groups
+     * @param mandatoryGroups groups in which a mandatory annotation applies
+     * @param constraintGroups groups in which a constraint annotation applies
+     */
+    private record Row(
+        boolean mandatoryWithoutGroups,
+        boolean constraintWithoutGroups,
+        BitSet mandatoryGroups,
+        BitSet constraintGroups
+    ) {
+
+        static Row of(Field field, List<Class<?>> groupIndex) {
+            boolean mandatoryWithoutGroups = false;
+            boolean constraintWithoutGroups = false;
+            BitSet mandatoryGroups = new BitSet();
+            BitSet constraintGroups = new BitSet();
+
+            for (Annotation annotation : field.getAnnotations()) {
+                AnnotationType annotationType = ANNOTATION_TYPES.get(annotation.annotationType());
+                if (!annotationType.constraint() && !annotationType.mandatory()) {
+                    continue;
+                }
+
+                Class<?>[] annotationGroups = annotationType.groupsOf(annotation);
+                if (annotationGroups == null) {
+                    continue;
+                }
+
+                if (annotationGroups.length == 0) {
+                    mandatoryWithoutGroups |= annotationType.mandatory();
+                    constraintWithoutGroups |= annotationType.constraint();
+                    continue;
+                }
+
+                for (Class<?> group : annotationGroups) {
+                    int index = groupIndex.indexOf(group);
+                    if (index < 0) {
+                        index = groupIndex.size();
+                        groupIndex.add(group);
+                    }
+
+                    if (annotationType.mandatory()) {
+                        mandatoryGroups.set(index);
+                    }
+                    if (annotationType.constraint()) {
+                        constraintGroups.set(index);
+                    }
+                }
+            }
+
+            return new Row(mandatoryWithoutGroups, constraintWithoutGroups, mandatoryGroups, constraintGroups);
+        }
+    }
+
+    /**
+     * Cached facts about an annotation type.
+     *
+     * @param constraint whether the annotation type is meta-annotated with {@link Constraint}
+     * @param mandatory whether the annotation marks a field as mandatory
+     * @param groups handle for the {@code groups()} accessor, or null if the annotation has no accessible groups
+     */
+    private record AnnotationType(boolean constraint, boolean mandatory, MethodHandle groups) {
+
+        static AnnotationType of(Class<?> annotationType) {
+            return new AnnotationType(
+                annotationType.isAnnotationPresent(Constraint.class),
+                MANDATORY_ANNOTATIONS.contains(annotationType),
+                findGroups(annotationType));
+        }
+
+        private static MethodHandle findGroups(Class<?> annotationType) {
+            try {
+                return MethodHandles.lookup()
+                    .unreflect(annotationType.getDeclaredMethod("groups"))
+                    .asType(GROUPS_TYPE);
+            } catch (NoSuchMethodException | IllegalAccessException | ClassCastException | IllegalArgumentException e) {
+                return null; // Safe fallback for annotations without an accessible "groups"
+            }
+        }
+
+        /**
+         * Reads the groups of an annotation of this type.
+         *
+         * @param annotation the annotation instance
+         * @return the declared groups, or null if the annotation has no groups accessor
+         */
+        Class<?>[] groupsOf(Annotation annotation) {
+            if (groups == null) {
+                return null;
+            }
+
+            try {
+                return (Class<?>[]) groups.invokeExact(annotation);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
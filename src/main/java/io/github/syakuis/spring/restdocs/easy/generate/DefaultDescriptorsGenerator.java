@@ -123,6 +123,6 @@ public class DefaultDescriptorsGenerator extends DescriptionMessageSource implem
      */
     @Override
     public RestDocs.Operator generate(String prefix) {
-        return new DefaultRestDocs.DefaultOperator(descriptors.stream().map(it -> it.description(getMessageByExpression(it.description()))).toList());
+        return new DefaultRestDocs.DefaultOperator(descriptors.stream().map(it -> it.withDescription(getMessageByExpression(it.description()))).toList());
     }
 }
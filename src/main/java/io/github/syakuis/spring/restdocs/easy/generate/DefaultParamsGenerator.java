@@ -179,6 +179,6 @@ public class DefaultParamsGenerator extends DescriptionMessageSource implements
      */
     @Override
     public RestDocs.Operator generate() {
-        return new DefaultRestDocs.DefaultOperator(descriptors.stream().map(it -> it.description(getMessageByExpression(it.description()))).toList());
+        return new DefaultRestDocs.DefaultOperator(descriptors.stream().map(it -> it.withDescription(getMessageByExpression(it.description()))).toList());
     }
 }
@@ -1,5 +1,7 @@
 package io.github.syakuis.spring.restdocs.easy.generate;
 
+import io.github.syakuis.spring.restdocs.easy.core.CacheStatistics;
+import io.github.syakuis.spring.restdocs.easy.core.JacksonMetadataGenerator;
 import org.springframework.context.MessageSource;
 import org.springframework.restdocs.cookies.CookieDescriptor;
 import org.springframework.restdocs.cookies.CookieDocumentation;
@@ -16,6 +18,7 @@ import org.springframework.restdocs.payload.*;
 import org.springframework.restdocs.request.*;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -54,8 +57,49 @@ class DefaultRestDocs implements RestDocs {
      * @param jsonFieldTypeMapper custom type mapping configuration
      */
     public DefaultRestDocs(MessageSource messageSource, JsonFieldTypeMapper jsonFieldTypeMapper) {
+        this(messageSource, jsonFieldTypeMapper, false);
+    }
+
+    /**
+     * Creates a new instance with specified message source, type mapper and inheritance mode.
+     *
+     * @param messageSource source for resolving i18n messages
+     * @param jsonFieldTypeMapper custom type mapping configuration
+     * @param inheritedFields whether fields declared in superclasses are documented as well
+     */
+    public DefaultRestDocs(MessageSource messageSource, JsonFieldTypeMapper jsonFieldTypeMapper, boolean inheritedFields) {
+        this(messageSource, jsonFieldTypeMapper, inheritedFields, null, null);
+    }
+
+    /**
+     * Creates a new instance that documents the fields as serialized by Jackson.
+     *
+     * @param messageSource source for resolving i18n messages
+     * @param jsonFieldTypeMapper custom type mapping configuration
+     * @param inheritedFields whether fields declared in superclasses are documented as well
+     * @param jacksonMetadataGenerator source of the serialized properties, or null to use the declared fields
+     * @param jsonView the active {@code @JsonView}, or null for none
+     */
+    public DefaultRestDocs(MessageSource messageSource, JsonFieldTypeMapper jsonFieldTypeMapper, boolean inheritedFields,
+                           JacksonMetadataGenerator jacksonMetadataGenerator, Class<?> jsonView) {
+        this(messageSource, jsonFieldTypeMapper, inheritedFields, jacksonMetadataGenerator, jsonView, null);
+    }
+
+    /**
+     * Creates a new instance whose descriptors are kept in a persistent cache between test runs.
+     *
+     * @param messageSource source for resolving i18n messages
+     * @param jsonFieldTypeMapper custom type mapping configuration
+     * @param inheritedFields whether fields declared in superclasses are documented as well
+     * @param jacksonMetadataGenerator source of the serialized properties, or null to use the declared fields
+     * @param jsonView the active {@code @JsonView}, or null for none
+     * @param diskCache the descriptors of previous runs, or null for none
+     */
+    DefaultRestDocs(MessageSource messageSource, JsonFieldTypeMapper jsonFieldTypeMapper, boolean inheritedFields,
+                    JacksonMetadataGenerator jacksonMetadataGenerator, Class<?> jsonView, DescriptorDiskCache diskCache) {
         this.messageSource = messageSource;
-        this.classDescriptorGenerator = new ClassDescriptorGenerator(messageSource, jsonFieldTypeMapper);
+        this.classDescriptorGenerator = new ClassDescriptorGenerator(messageSource, jsonFieldTypeMapper, inheritedFields,
+            jacksonMetadataGenerator, jsonView, diskCache);
     }
 
     /**
@@ -100,6 +144,17 @@ class DefaultRestDocs implements RestDocs {
         return generate(null, targetClass, validGroups);
     }
 
+    /**
+     * {@inheritDoc}
+     * Returns empty statistics if the message source is not a {@link CachingMessageSource}.
+     */
+    @Override
+    public CacheStatistics messageCacheStatistics() {
+        return messageSource instanceof CachingMessageSource cachingMessageSource
+            ? cachingMessageSource.statistics()
+            : new CacheStatistics(0, 0);
+    }
+
     public Operator generate(String prefix, Class<?> targetClass) {
         return generate(prefix, targetClass, new Class<?>[0]);
     }
@@ -109,13 +164,24 @@ class DefaultRestDocs implements RestDocs {
         return new DefaultOperator(classDescriptorGenerator.generate(prefix, targetClass, validGroups), classDescriptorGenerator);
     }
 
+    @Override
+    public Operator generateRecursive(String prefix, Class<?> targetClass, int maxDepth, Class<?>... validGroups) {
+        return new DefaultOperator(classDescriptorGenerator.generateRecursive(prefix, targetClass, maxDepth, validGroups), classDescriptorGenerator);
+    }
+
     /**
      * Default implementation of the Operator interface for "Spring REST Docs Easy".
      * Provides methods for manipulating and transforming documentation descriptors.
+     *
+     * <p>Operators are immutable: every edit returns a new operator that shares the descriptors and
+     * the earlier edits of the original, so an operator can be converted several times and used as
+     * a template that is forked per test. Descriptors are immutable and shared, not copied. Edits are recorded and applied in one pass to a name-indexed
+     * {@link DescriptorIndex} when the operator is converted.</p>
      */
     static class DefaultOperator implements Operator {
-        private Stream<Descriptor> descriptors;
-        private ClassDescriptorGenerator classDescriptorGenerator;
+        private final List<Descriptor> descriptors;
+        private final Edit edit;
+        private final ClassDescriptorGenerator classDescriptorGenerator;
 
         /**
          * Creates a new operator with the specified descriptors.
@@ -123,7 +189,7 @@ class DefaultRestDocs implements RestDocs {
          * @param descriptors initial list of descriptors
          */
         public DefaultOperator(List<Descriptor> descriptors) {
-            this.descriptors = descriptors.stream();
+            this(descriptors, null);
         }
 
         /**
@@ -133,10 +199,46 @@ class DefaultRestDocs implements RestDocs {
          * @param classDescriptorGenerator generator for additional descriptors
          */
         public DefaultOperator(List<Descriptor> descriptors, ClassDescriptorGenerator classDescriptorGenerator) {
-            this.descriptors = descriptors.stream();
+            this(List.copyOf(descriptors), null, classDescriptorGenerator);
+        }
+
+        private DefaultOperator(List<Descriptor> descriptors, Edit edit, ClassDescriptorGenerator classDescriptorGenerator) {
+            this.descriptors = descriptors;
+            this.edit = edit;
             this.classDescriptorGenerator = classDescriptorGenerator;
         }
 
+        /**
+         * Returns a new operator that applies the given edit after the edits of this operator.
+         *
+         * @param step the edit to append
+         * @return the new Operator instance
+         */
+        private Operator with(Consumer<DescriptorIndex> step) {
+            return new DefaultOperator(descriptors, new Edit(edit, step, null), classDescriptorGenerator);
+        }
+
+        /**
+         * Applies the edits of this operator to an index of the initial descriptors.
+         * Name-based edits only touch the matching descriptors.
+         *
+         * @return a stream of the edited descriptors
+         */
+        private Stream<Descriptor> descriptors() {
+            if (edit == null) {
+                return descriptors.stream();
+            }
+
+            Deque<Consumer<DescriptorIndex>> steps = new ArrayDeque<>();
+            for (Edit current = edit; current != null; current = current.previous()) {
+                steps.push(current.step());
+            }
+
+            DescriptorIndex index = new DescriptorIndex(descriptors);
+            steps.forEach(step -> step.accept(index));
+            return index.toList().stream();
+        }
+
         /**
          * {@inheritDoc}
          * Adds descriptors generated from the specified class with prefix support.
@@ -149,116 +251,123 @@ class DefaultRestDocs implements RestDocs {
                 throw new IllegalStateException("classDescriptorGenerator not set");
             }
 
-            var data = new LinkedList<>(descriptors.toList());
-            data.addAll(classDescriptorGenerator.generate(prefix, targetClass, validGroups));
-            this.descriptors = data.stream();
-            return this;
+            List<Descriptor> data = classDescriptorGenerator.generate(prefix, targetClass, validGroups);
+            return with(index -> index.append(data));
         }
 
         /**
-         * Adds additional descriptors to the existing stream.
+         * Adds additional descriptors to the existing descriptors.
          *
          * @param descriptor the descriptors to add
-         * @return the updated Operator instance
+         * @return a new Operator instance
          */
         @Override
         public Operator addAll(Descriptor... descriptor) {
-            addAll(Arrays.asList(descriptor));
-            return this;
+            return addAll(Arrays.asList(descriptor));
         }
 
+        /**
+         * Merges descriptors into the existing descriptors, replacing descriptors with the same name in place.
+         * Consecutive calls are combined into a single edit that merges all their descriptors in one pass.
+         *
+         * @param descriptor the descriptors to merge
+         * @return a new Operator instance
+         */
         @Override
         public Operator addAll(List<Descriptor> descriptor) {
-            this.descriptors = DescriptorCollector.merge(descriptors.toList(), descriptor).stream();
-            return this;
+            List<List<Descriptor>> sources = new ArrayList<>();
+            Edit previous = edit;
+            if (edit != null && edit.sources() != null) {
+                sources.addAll(edit.sources());
+                previous = edit.previous();
+            }
+            sources.add(List.copyOf(descriptor));
+
+            List<List<Descriptor>> merged = List.copyOf(sources);
+            Consumer<DescriptorIndex> step = index -> index.merge(merged.size() == 1
+                ? merged.get(0)
+                : DescriptorCollector.mergeAll(merged));
+            return new DefaultOperator(descriptors, new Edit(previous, step, merged), classDescriptorGenerator);
         }
 
         /**
          * Filters descriptors by matching field names.
          *
          * @param fieldName the field names to filter by
-         * @return the updated Operator instance
+         * @return a new Operator instance
          */
         @Override
         public Operator filter(String... fieldName) {
-            Set<String> fieldSet = new HashSet<>(Arrays.asList(fieldName));
-            this.descriptors = descriptors.filter(descriptor -> fieldSet.contains(descriptor.name()));
-            return this;
+            Set<String> fieldSet = Set.copyOf(Arrays.asList(fieldName));
+            return with(index -> index.retain(fieldSet));
         }
 
         /**
          * Excludes descriptors with matching field names.
          *
          * @param fieldName the field names to exclude
-         * @return the updated Operator instance
+         * @return a new Operator instance
          */
         @Override
         public Operator exclude(String... fieldName) {
-            Set<String> fieldSet = new HashSet<>(Arrays.asList(fieldName));
-            this.descriptors = descriptors.filter(descriptor -> !fieldSet.contains(descriptor.name()));
-            return this;
+            Set<String> fieldSet = Set.copyOf(Arrays.asList(fieldName));
+            return with(index -> index.remove(fieldSet));
         }
 
         /**
-         * Applies modifications to descriptors that match the specified field names.
+         * Replaces the descriptors that match the specified field names with modified copies.
          *
          * @param fieldNames the field names to match
          * @param modifier   the modification function to apply
-         * @return the updated DescriptorModifier instance
+         * @return a new Operator instance
          */
         private Operator update(String[] fieldNames, UnaryOperator<Descriptor> modifier) {
-            Set<String> fieldsToModify = new HashSet<>(Arrays.asList(fieldNames));
-            this.descriptors = descriptors.map(descriptor -> {
-                if (fieldsToModify.contains(descriptor.name())) {
-                    return modifier.apply(descriptor);
-                }
-                return descriptor;
-            });
-            return this;
+            Set<String> fieldsToModify = Set.copyOf(Arrays.asList(fieldNames));
+            return with(index -> index.update(fieldsToModify, modifier));
         }
 
         /**
          * Marks the specified fields as ignored.
          *
          * @param fieldNames the field names to ignore
-         * @return the updated Operator instance
+         * @return a new Operator instance
          */
         @Override
         public Operator ignore(String... fieldNames) {
-            return update(fieldNames, descriptor -> descriptor.ignore(true));
+            return update(fieldNames, descriptor -> descriptor.withIgnore(true));
         }
 
         /**
          * Marks the specified fields as not ignored.
          *
          * @param fieldNames the field names to not ignore
-         * @return the updated Operator instance
+         * @return a new Operator instance
          */
         @Override
         public Operator notIgnore(String... fieldNames) {
-            return update(fieldNames, descriptor -> descriptor.ignore(false));
+            return update(fieldNames, descriptor -> descriptor.withIgnore(false));
         }
 
         /**
          * Marks the specified fields as optional.
          *
          * @param fieldNames the field names to mark as optional
-         * @return the updated Operator instance
+         * @return a new Operator instance
          */
         @Override
         public Operator optional(String... fieldNames) {
-            return update(fieldNames, descriptor -> descriptor.optional(true));
+            return update(fieldNames, descriptor -> descriptor.withOptional(true));
         }
 
         /**
          * Marks the specified fields as required (not optional).
          *
          * @param fieldNames the field names to mark as required
-         * @return the updated Operator instance
+         * @return a new Operator instance
          */
         @Override
         public Operator require(String... fieldNames) {
-            return update(fieldNames, descriptor -> descriptor.optional(false));
+            return update(fieldNames, descriptor -> descriptor.withOptional(false));
         }
 
         /**
@@ -282,7 +391,7 @@ class DefaultRestDocs implements RestDocs {
          */
         @Override
         public List<FieldDescriptor> toField() {
-            return this.descriptors.map(descriptor ->
+            return descriptors().map(descriptor ->
                 updateFieldDescriptor(fieldWithPath(
                     prefix(descriptor.prefix(), descriptor.name())
                 )).apply(descriptor)).toList();
@@ -297,7 +406,7 @@ class DefaultRestDocs implements RestDocs {
          */
         @Override
         public List<SubsectionDescriptor> toSubsection() {
-            return this.descriptors.map(descriptor ->
+            return descriptors().map(descriptor ->
                 updateFieldDescriptor(subsectionWithPath(
                     prefix(descriptor.prefix(), descriptor.name())
                 )).apply(descriptor)).toList();
@@ -312,7 +421,7 @@ class DefaultRestDocs implements RestDocs {
          */
         @Override
         public List<RequestPartDescriptor> toRequestPart() {
-            return this.descriptors.map(descriptor -> {
+            return descriptors().map(descriptor -> {
                 RequestPartDescriptor newDescriptor = updateIgnorableDescriptor(partWithName(
                     prefix(descriptor.prefix(), descriptor.name())
                 )).apply(descriptor);
@@ -334,7 +443,7 @@ class DefaultRestDocs implements RestDocs {
          */
         @Override
         public List<ParameterDescriptor> toParameter() {
-            return this.descriptors.map(descriptor -> {
+            return descriptors().map(descriptor -> {
                 ParameterDescriptor newDescriptor = updateIgnorableDescriptor(parameterWithName(
                     prefix(descriptor.prefix(), descriptor.name())
                 )).apply(descriptor);
@@ -356,7 +465,7 @@ class DefaultRestDocs implements RestDocs {
          */
         @Override
         public List<LinkDescriptor> toLink() {
-            return this.descriptors.map(descriptor -> {
+            return descriptors().map(descriptor -> {
                 LinkDescriptor newDescriptor = updateIgnorableDescriptor(linkWithRel(
                     prefix(descriptor.prefix(), descriptor.name())
                 )).apply(descriptor);
@@ -378,7 +487,7 @@ class DefaultRestDocs implements RestDocs {
          */
         @Override
         public List<HeaderDescriptor> toHeader() {
-            return this.descriptors.map(descriptor -> {
+            return descriptors().map(descriptor -> {
                 HeaderDescriptor newDescriptor = updateDescriptor(headerWithName(
                     prefix(descriptor.prefix(), descriptor.name())
                 )).apply(descriptor);
@@ -400,7 +509,7 @@ class DefaultRestDocs implements RestDocs {
          */
         @Override
         public List<CookieDescriptor> toCookie() {
-            return this.descriptors.map(descriptor -> {
+            return descriptors().map(descriptor -> {
                 CookieDescriptor newDescriptor = updateIgnorableDescriptor(cookieWithName(
                     prefix(descriptor.prefix(), descriptor.name())
                 )).apply(descriptor);
@@ -421,7 +530,7 @@ class DefaultRestDocs implements RestDocs {
          */
         @Override
         public List<Descriptor> toList() {
-            return this.descriptors.toList();
+            return descriptors().toList();
         }
 
         /**
@@ -459,7 +568,7 @@ class DefaultRestDocs implements RestDocs {
          */
         @Override
         public String join(CharSequence delimiter, CharSequence prefix, CharSequence suffix) {
-            return this.descriptors
+            return descriptors()
                 .map(Descriptor::description)
                 .map(Object::toString).collect(Collectors.joining(delimiter, prefix, suffix));
         }
@@ -553,5 +662,15 @@ class DefaultRestDocs implements RestDocs {
         public ResponseCookiesSnippet responseCookies() {
             return CookieDocumentation.responseCookies(toCookie());
         }
+
+        /**
+         * A node of the persistent edit chain. Forked operators share the nodes of their common edits.
+         *
+         * @param previous the edit applied before this one, or null for the first edit
+         * @param step the edit applied to the descriptors
+         * @param sources the descriptor lists merged by this edit, or null if it is not a merge
+         */
+        private record Edit(Edit previous, Consumer<DescriptorIndex> step, List<List<Descriptor>> sources) {
+        }
     }
 }
@@ -1,8 +1,12 @@
 package io.github.syakuis.spring.restdocs.easy.generate;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.syakuis.spring.restdocs.easy.core.JacksonMetadataGenerator;
 import org.springframework.context.MessageSource;
 import org.springframework.restdocs.payload.JsonFieldType;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.function.Consumer;
 
 /**
@@ -12,7 +16,10 @@ import java.util.function.Consumer;
  *
  * <p>Features:</p>
  * - Message source configuration for i18n support
+ * - Resolved-message caching aligned with the message source reload interval
  * - Custom JSON field type mapping for Java types
+ * - Optional Jackson mode documenting the serialized property names
+ * - Optional persistent descriptor cache shared between test runs
  * - Fluent builder API with method chaining
  * - Default type mappings for common Java types
  *
@@ -40,6 +47,11 @@ import java.util.function.Consumer;
  */
 class DefaultRestDocsBuilder implements RestDocsBuilder {
     private MessageSource messageSource;
+    private Duration messageCacheDuration;
+    private boolean inheritedFields;
+    private ObjectMapper objectMapper;
+    private Class<?> jsonView;
+    private Path descriptorCacheDirectory;
     private final JsonFieldTypeMapper jsonFieldTypeMapper = new JsonFieldTypeMapper();;
 
     /**
@@ -60,6 +72,68 @@ class DefaultRestDocsBuilder implements RestDocsBuilder {
         return this;
     }
 
+    /**
+     * Sets how long resolved messages are cached by the {@link CachingMessageSource}
+     * wrapping the configured message source.
+     *
+     * @param cacheDuration how long resolved messages are cached; null or negative caches forever, zero disables caching
+     * @return this builder instance for method chaining
+     */
+    @Override
+    public RestDocsBuilder messageCacheDuration(Duration cacheDuration) {
+        this.messageCacheDuration = cacheDuration;
+        return this;
+    }
+
+    /**
+     * Sets whether fields declared in superclasses are documented as well.
+     *
+     * @param inheritedFields true to document inherited fields
+     * @return this builder instance for method chaining
+     */
+    @Override
+    public RestDocsBuilder inheritedFields(boolean inheritedFields) {
+        this.inheritedFields = inheritedFields;
+        return this;
+    }
+
+    /**
+     * Sets the ObjectMapper whose serialization introspection decides the documented fields.
+     *
+     * @param objectMapper the ObjectMapper that serializes the documented payloads
+     * @return this builder instance for method chaining
+     */
+    @Override
+    public RestDocsBuilder objectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        return this;
+    }
+
+    /**
+     * Sets the {@code @JsonView} whose properties are documented.
+     *
+     * @param jsonView the active view
+     * @return this builder instance for method chaining
+     */
+    @Override
+    public RestDocsBuilder jsonView(Class<?> jsonView) {
+        this.jsonView = jsonView;
+        return this;
+    }
+
+    /**
+     * Sets the directory of the persistent descriptor cache.
+     *
+     * @param directory the cache directory
+     * @return this builder instance for method chaining
+     * @see DescriptorDiskCache
+     */
+    @Override
+    public RestDocsBuilder descriptorCache(Path directory) {
+        this.descriptorCacheDirectory = directory;
+        return this;
+    }
+
     /**
      * Configures the JSON field type mapper with custom type mappings.
      * Allows customization of how Java types are mapped to JSON field types
@@ -78,13 +152,22 @@ class DefaultRestDocsBuilder implements RestDocsBuilder {
 
     /**
      * Builds and returns a new RestDocs instance with the configured settings.
-     * Creates a new DefaultRestDocs instance using the configured message source
-     * and JSON field type mapper.
+     * Creates a new DefaultRestDocs instance using the configured message source,
+     * wrapped in a {@link CachingMessageSource}, and an immutable snapshot of the JSON field type mapper,
+     * so the instance can be shared by tests running in parallel.
      *
      * @return new RestDocs instance
      */
     @Override
     public RestDocs build() {
-        return new DefaultRestDocs(messageSource, jsonFieldTypeMapper);
+        MessageSource cachingMessageSource = messageSource == null || messageSource instanceof CachingMessageSource
+            ? messageSource
+            : new CachingMessageSource(messageSource, messageCacheDuration);
+        JsonFieldTypeMapper mapper = jsonFieldTypeMapper.snapshot();
+        JacksonMetadataGenerator jacksonMetadataGenerator = objectMapper == null ? null : new JacksonMetadataGenerator(objectMapper);
+        DescriptorDiskCache diskCache = descriptorCacheDirectory == null || jacksonMetadataGenerator != null
+            ? null
+            : DescriptorDiskCache.create(descriptorCacheDirectory, messageSource, mapper, inheritedFields);
+        return new DefaultRestDocs(cachingMessageSource, mapper, inheritedFields, jacksonMetadataGenerator, jsonView, diskCache);
     }
 }
@@ -3,10 +3,11 @@ package io.github.syakuis.spring.restdocs.easy.generate;
 import io.github.syakuis.spring.restdocs.easy.core.ClassFieldMetadata;
 import org.springframework.context.MessageSource;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Core message resolution component for "Spring REST Docs Easy" that handles
@@ -17,6 +18,7 @@ import java.util.Objects;
  * - Special handling for enum fields and their constants
  * - Supports message expression resolution (e.g., {messageCode})
  * - Internationalization (i18n) support through MessageSource
+ * - Caches the rendered constant list per enum type and locale
  *
  * <p>Message resolution patterns:</p>
  * - Regular fields: "{package}.{class}.{field}"
@@ -50,8 +52,21 @@ import java.util.Objects;
  * @since 2024-01-12
  */
 public class DescriptionMessageSource {
+    private static final String ENUM_CONSTANT_DELIMITER = " + " + System.lineSeparator();
+
     private final MessageSource messageSource;
 
+    /**
+     * Rendered enum constant lists per enum type, locale and message generation.
+     * A list rendered before a reload is keyed by the old generation, so it is never returned afterwards.
+     */
+    private final Map<EnumMessageKey, String> enumConstantMessages = new ConcurrentHashMap<>();
+
+    /**
+     * Latest message generation seen, used to evict the lists of earlier generations.
+     */
+    private volatile long enumConstantMessagesGeneration;
+
     /**
      * Constructs a new DescriptionMessageSource with the provided MessageSource.
      * The MessageSource is used to resolve messages for both fields and enums.
@@ -73,7 +88,17 @@ public class DescriptionMessageSource {
     public String getMessage(ClassFieldMetadata classFieldMetadata) {
         return isEnumField(classFieldMetadata)
             ? getEnumMessages(classFieldMetadata)
-            : getMessageForCode(classFieldMetadata.packageClassName() + "." + classFieldMetadata.name(), classFieldMetadata.name());
+            : getMessageForCode(classFieldMetadata.packageClassName() + "." + classFieldMetadata.propertyName(), classFieldMetadata.name());
+    }
+
+    /**
+     * Returns the generation of the resolved messages. It advances whenever a {@link CachingMessageSource}
+     * drops its cached messages, so values derived from messages must be rebuilt.
+     *
+     * @return the generation of the message source, always 0 if it is not a {@link CachingMessageSource}
+     */
+    protected long messageGeneration() {
+        return messageSource instanceof CachingMessageSource cachingMessageSource ? cachingMessageSource.generation() : 0;
     }
 
     /**
@@ -88,37 +113,56 @@ public class DescriptionMessageSource {
 
     /**
      * Retrieves messages for an enum field, including a message for each enum constant.
+     * Only the field-specific base message is resolved per call; the constant list is
+     * rendered once per enum type and locale.
      *
      * @param classFieldMetadata Metadata representing the enum field.
      * @return The formatted messages for the enum and its constants.
      */
     private String getEnumMessages(ClassFieldMetadata classFieldMetadata) {
-        String baseMessage = getMessageForCode(classFieldMetadata.packageClassName() + "." + classFieldMetadata.name(), classFieldMetadata.name());
+        String baseMessage = getMessageForCode(classFieldMetadata.packageClassName() + "." + classFieldMetadata.propertyName(), classFieldMetadata.name());
+
+        long generation = messageGeneration();
+        String constantMessages = enumConstantMessages.computeIfAbsent(
+            new EnumMessageKey(classFieldMetadata.type(), Locale.getDefault(), generation), this::renderEnumConstants);
+        if (generation > enumConstantMessagesGeneration) {
+            // Lists of earlier generations are never read again
+            enumConstantMessagesGeneration = generation;
+            enumConstantMessages.keySet().removeIf(key -> key.generation() < generation);
+        }
+
+        return formatEnumFieldOutput(baseMessage, constantMessages);
+    }
 
-        List<String> enumMessages = new ArrayList<>();
-        for (Object enumConstant : classFieldMetadata.type().getEnumConstants()) {
+    /**
+     * Renders the messages of all constants of an enum type, one constant per line.
+     *
+     * @param key The enum type, locale and message generation to render the constants for.
+     * @return The rendered constant messages, or an empty string if the enum has no constants.
+     */
+    private String renderEnumConstants(EnumMessageKey key) {
+        StringJoiner enumMessages = new StringJoiner(ENUM_CONSTANT_DELIMITER);
+        for (Object enumConstant : key.enumType().getEnumConstants()) {
             String constantName = ((Enum<?>) enumConstant).name();
-            String constantMessage = getMessageForCode(classFieldMetadata.type().getName() + "." + constantName, null);
+            String constantMessage = messageSource.getMessage(key.enumType().getName() + "." + constantName, null, null, key.locale());
             enumMessages.add(constantMessage != null ? constantName + " : " + constantMessage : constantName);
         }
-
-        return formatEnumFieldOutput(baseMessage, enumMessages);
+        return enumMessages.toString();
     }
 
     /**
      * Formats the output for an enum field, combining its base message and its constants' messages.
      *
      * @param baseMessage The base message for the field.
-     * @param enumMessages A list of messages for each enum constant.
+     * @param constantMessages The rendered messages of the enum constants.
      * @return A formatted string containing the field's message and the constants' messages.
      */
-    private String formatEnumFieldOutput(String baseMessage, List<String> enumMessages) {
-        if (baseMessage == null || enumMessages.isEmpty()) {
+    private String formatEnumFieldOutput(String baseMessage, String constantMessages) {
+        if (baseMessage == null || constantMessages.isEmpty()) {
             throw new IllegalArgumentException("Base message and enum messages must not be null or empty.");
         }
 
-        return baseMessage + System.lineSeparator() + System.lineSeparator() +
-            String.join(" + " + System.lineSeparator(), enumMessages);
+        return baseMessage + System.lineSeparator() + System.lineSeparator() + constantMessages;
     }
 
     /**
@@ -168,4 +212,14 @@ public class DescriptionMessageSource {
 
         return Objects.toString(expression, defaultMessage);
     }
+
+    /**
+     * Cache key of a rendered enum constant list.
+     *
+     * @param enumType the enum type
+     * @param locale the locale the constant messages were resolved for
+     * @param generation the message generation the constant messages were resolved in
+     */
+    private record EnumMessageKey(Class<?> enumType, Locale locale, long generation) {
+    }
 }
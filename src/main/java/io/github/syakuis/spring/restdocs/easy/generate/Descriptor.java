@@ -6,8 +6,11 @@ import lombok.experimental.Accessors;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.restdocs.snippet.Attributes;
 
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
 
 /**
  * Represents a field descriptor for "Spring REST Docs Easy".
@@ -21,12 +24,22 @@ import java.util.Objects;
  * - Custom attribute support for constraints
  * - Selective field documentation with ignore option
  *
+ * <p>Descriptors are immutable. The {@code withX} methods return a modified copy, so descriptor lists
+ * can be cached and shared between tests. Structurally identical descriptors can be collapsed into one
+ * instance with {@link #intern()}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * Descriptor name = Descriptor.builder().name("name").description("User name").build();
+ * Descriptor optionalName = name.withOptional(true);  // name is unchanged
+ * }</pre>
+ *
  * @author Seok Kyun. Choi.
  * @since 2023-07-15
  */
 @Getter
 @Accessors(fluent = true)
-@Builder
+@Builder(toBuilder = true)
 public class Descriptor {
     /**
      * Optional prefix for the field path, useful for nested objects
@@ -45,89 +58,129 @@ public class Descriptor {
      * (e.g., STRING, NUMBER, BOOLEAN, ARRAY, OBJECT)
      */
     @Builder.Default
-    private JsonFieldType type = JsonFieldType.STRING;
+    private final JsonFieldType type = JsonFieldType.STRING;
 
     /**
      * The description of the field that will appear in the documentation
      * Can be a string or a message source key
      */
-    private Object description;
+    private final Object description;
 
     /**
      * Indicates whether the field is optional in the API
      * true = optional, false = required
      */
     @Builder.Default
-    private boolean optional = false;
+    private final boolean optional = false;
 
     /**
      * Controls whether this field should be excluded from documentation
      * true = exclude from docs, false = include in docs
      */
     @Builder.Default
-    private boolean ignore = false;
+    private final boolean ignore = false;
 
     /**
      * Additional attributes for the field documentation
-     * Typically used for constraints or other metadata
+     * Typically used for constraints or other metadata.
+     * The array is shared between copies and must not be modified.
      */
-    private Attributes.Attribute[] attributes;
+    private final Attributes.Attribute[] attributes;
 
     /**
-     * Sets the JSON field type for this descriptor.
+     * Weak pools of interned descriptors, striped by hash code so that concurrent callers rarely
+     * contend for the same lock. Entries disappear once no descriptor list refers to them.
+     */
+    @SuppressWarnings("unchecked")
+    private static final Map<Descriptor, WeakReference<Descriptor>>[] INTERNED = new Map[16];
+
+    static {
+        for (int i = 0; i < INTERNED.length; i++) {
+            INTERNED[i] = new WeakHashMap<>();
+        }
+    }
+
+    /**
+     * Returns a copy of this descriptor with the given path prefix.
+     *
+     * @param prefix the prefix for the field path, or null for none
+     * @return a descriptor with the given prefix, or this descriptor if it already has it
+     */
+    public Descriptor withPrefix(String prefix) {
+        return Objects.equals(this.prefix, prefix) ? this : toBuilder().prefix(prefix).build();
+    }
+
+    /**
+     * Returns a copy of this descriptor with the given JSON field type.
      *
      * @param type the Spring REST Docs JsonFieldType to use
-     * @return this descriptor instance for method chaining
+     * @return a descriptor with the given type, or this descriptor if it already has it
      */
-    public Descriptor type(JsonFieldType type) {
-        this.type = type;
-        return this;
+    public Descriptor withType(JsonFieldType type) {
+        return this.type == type ? this : toBuilder().type(type).build();
     }
 
     /**
-     * Sets the description for this field.
+     * Returns a copy of this descriptor with the given description.
      * The description can be a direct string or a message source key in the format {key}.
      *
      * @param description the field description or message key
-     * @return this descriptor instance for method chaining
+     * @return a descriptor with the given description, or this descriptor if it already has it
      */
-    public Descriptor description(Object description) {
-        this.description = description;
-        return this;
+    public Descriptor withDescription(Object description) {
+        return Objects.equals(this.description, description) ? this : toBuilder().description(description).build();
     }
 
     /**
-     * Sets whether this field is optional in the API documentation.
+     * Returns a copy of this descriptor with the given optional status.
      *
      * @param optional true if the field is optional, false if required
-     * @return this descriptor instance for method chaining
+     * @return a descriptor with the given optional status, or this descriptor if it already has it
      */
-    public Descriptor optional(boolean optional) {
-        this.optional = optional;
-        return this;
+    public Descriptor withOptional(boolean optional) {
+        return this.optional == optional ? this : toBuilder().optional(optional).build();
     }
 
     /**
-     * Sets whether this field should be ignored in the documentation.
+     * Returns a copy of this descriptor with the given ignore status.
      *
      * @param ignore true to exclude from documentation, false to include
-     * @return this descriptor instance for method chaining
+     * @return a descriptor with the given ignore status, or this descriptor if it already has it
      */
-    public Descriptor ignore(boolean ignore) {
-        this.ignore = ignore;
-        return this;
+    public Descriptor withIgnore(boolean ignore) {
+        return this.ignore == ignore ? this : toBuilder().ignore(ignore).build();
     }
 
     /**
-     * Sets additional attributes for this field's documentation.
+     * Returns a copy of this descriptor with the given attributes.
      * Typically used for adding validation constraints or other metadata.
      *
      * @param attributes array of additional attributes
-     * @return this descriptor instance for method chaining
+     * @return a descriptor with the given attributes
+     */
+    public Descriptor withAttributes(Attributes.Attribute[] attributes) {
+        return toBuilder().attributes(attributes).build();
+    }
+
+    /**
+     * Returns the canonical instance of this descriptor from a weak pool.
+     * Structurally identical descriptors, such as the same field of the same class generated for
+     * many tests, share one instance for as long as any of them is referenced.
+     *
+     * @return the pooled descriptor equal to this one
      */
-    public Descriptor attributes(Attributes.Attribute[] attributes) {
-        this.attributes = attributes;
-        return this;
+    public Descriptor intern() {
+        int hash = hashCode();
+        Map<Descriptor, WeakReference<Descriptor>> stripe = INTERNED[(hash ^ (hash >>> 16)) & (INTERNED.length - 1)];
+        synchronized (stripe) {
+            WeakReference<Descriptor> reference = stripe.get(this);
+            Descriptor interned = reference != null ? reference.get() : null;
+            if (interned == null) {
+                stripe.put(this, new WeakReference<>(this));
+                interned = this;
+            }
+            return interned;
+        }
     }
 
     @Override
@@ -136,12 +189,13 @@ public class Descriptor {
         if (o == null || getClass() != o.getClass()) return false;
 
         Descriptor that = (Descriptor) o;
-        return optional == that.optional && ignore == that.ignore && Objects.equals(name, that.name) && type == that.type && Objects.equals(description, that.description) && Arrays.equals(attributes, that.attributes);
+        return optional == that.optional && ignore == that.ignore && Objects.equals(prefix, that.prefix) && Objects.equals(name, that.name) && type == that.type && Objects.equals(description, that.description) && Arrays.equals(attributes, that.attributes);
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hashCode(name);
+        int result = Objects.hashCode(prefix);
+        result = 31 * result + Objects.hashCode(name);
         result = 31 * result + Objects.hashCode(type);
         result = 31 * result + Objects.hashCode(description);
         result = 31 * result + Boolean.hashCode(optional);
@@ -153,7 +207,8 @@ public class Descriptor {
     @Override
     public String toString() {
         return "Descriptor{" +
-            "name='" + name + '\'' +
+            "prefix='" + prefix + '\'' +
+            ", name='" + name + '\'' +
             ", type=" + type +
             ", description=" + description +
             ", optional=" + optional +
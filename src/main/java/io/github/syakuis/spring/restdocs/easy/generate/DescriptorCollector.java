@@ -7,10 +7,10 @@ import org.springframework.restdocs.snippet.AbstractDescriptor;
 import org.springframework.restdocs.snippet.IgnorableDescriptor;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * A utility class for managing and manipulating collections of descriptors in Spring REST Docs Easy.
@@ -18,7 +18,7 @@ import java.util.stream.Collectors;
  * documentation properties and relationships with Spring REST Docs.
  *
  * <p>Key features:</p>
- * - Merges descriptor lists with source precedence
+ * - Merges descriptor lists with source precedence, keeping first-seen field order
  * - Updates descriptor properties (description, type, optional status)
  * - Handles different Spring REST Docs descriptor types
  * - Preserves documentation attributes and constraints
@@ -43,7 +43,7 @@ public final class DescriptorCollector {
     /**
      * Merges two lists of Descriptor objects, with source descriptors taking precedence.
      * When duplicate field names are found, the source descriptor's properties override
-     * the target descriptor's properties.
+     * the target descriptor's properties. Fields keep the position they were first seen at.
      *
      * <p>Example:</p>
      * <pre>{@code
@@ -58,7 +58,7 @@ public final class DescriptorCollector {
      *     new Descriptor("name", "Updated name field")
      * );
      *
-     * // Result: "name" from source, "age" from target
+     * // Result: "name" from source, "age" from target, in that order
      * List<Descriptor> merged = DescriptorCollector.merge(target, source);
      * }</pre>
      *
@@ -71,10 +71,35 @@ public final class DescriptorCollector {
             return new ArrayList<>(target);
         }
 
-        Map<String, Descriptor> map = target.stream()
-            .collect(Collectors.toMap(Descriptor::name, descriptor -> descriptor, (existing, replacement) -> replacement));
+        return mergeAll(List.of(target, source));
+    }
+
+    /**
+     * Merges several lists of Descriptor objects in one pass, with later lists taking precedence.
+     * Equivalent to chaining {@link #merge(List, List)} over the lists, without materializing
+     * the intermediate results. Runs in time linear to the total number of descriptors.
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * // "name" from overrides, "age" from base, "email" from extra
+     * List<Descriptor> merged = DescriptorCollector.mergeAll(List.of(base, overrides, extra));
+     * }</pre>
+     *
+     * @param sources the lists of descriptors to merge, in order of increasing precedence
+     * @return a new list containing all unique descriptors in first-seen order
+     */
+    public static List<Descriptor> mergeAll(List<? extends List<Descriptor>> sources) {
+        int size = 0;
+        for (List<Descriptor> source : sources) {
+            size += source == null ? 0 : source.size();
+        }
 
-        source.forEach(descriptor -> map.put(descriptor.name(), descriptor));
+        Map<String, Descriptor> map = new LinkedHashMap<>((int) (size / 0.75f) + 1);
+        for (List<Descriptor> source : sources) {
+            if (source != null) {
+                source.forEach(descriptor -> map.put(descriptor.name(), descriptor));
+            }
+        }
 
         return new ArrayList<>(map.values());
     }
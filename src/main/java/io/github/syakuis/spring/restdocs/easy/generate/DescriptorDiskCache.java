@@ -0,0 +1,477 @@
+package io.github.syakuis.spring.restdocs.easy.generate;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.HierarchicalMessageSource;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.AbstractResourceBasedMessageSource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.restdocs.snippet.Attributes;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Persistent descriptor cache of "Spring REST Docs Easy" that keeps generated descriptor lists
+ * in a binary file between test runs, e.g. under {@code build/}.
+ *
+ * <p>An entry is stored per class, set of validation groups, default locale and generation environment;
+ * the environment covers the contents of the message bundles, of the constraint description and Bean
+ * Validation message bundles, the JsonFieldTypeMapper mappings and the generation options. An entry holds
+ * a hash of the bytecode of the class itself, so a lookup reads only the class file and does not reflect
+ * over the class. A hit is then validated against the bytecode of the types the descriptors also depend on,
+ * its superclasses and the enum types of its fields.</p>
+ *
+ * <p>A lookup that misses or fails validation is regenerated and replaces the stale entry, so only
+ * changed classes are reflected and resolved again. Descriptors with non-string descriptions or
+ * attributes are not stored.</p>
+ *
+ * <p>All caches of a directory share one set of entries, read once when the first cache of the directory
+ * is created and written back, if anything changed, on {@link #flush()} and by a single JVM shutdown hook.
+ * Only the entries written in this JVM are merged into the current file before it is replaced atomically,
+ * so entries written by other test JVMs in the meantime are kept.</p>
+ *
+ * <p>Message bundles can only be fingerprinted for resource-based message sources such as
+ * {@link org.springframework.context.support.ResourceBundleMessageSource}; for other message sources
+ * {@link #create(Path, MessageSource, JsonFieldTypeMapper, boolean)} returns null and no cache is used.</p>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ * @see ClassDescriptorGenerator
+ */
+@Slf4j
+class DescriptorDiskCache {
+    /**
+     * File name of the cache within the cache directory.
+     */
+    static final String FILE_NAME = "descriptors.bin";
+
+    private static final int MAGIC = 0x52444543;
+    private static final int VERSION = 2;
+
+    /**
+     * SHA-256 of the bytecode per class, or of the class name and Java version for JDK classes.
+     */
+    private static final ClassValue<String> BYTECODE_HASHES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return bytecodeHash(type);
+        }
+    };
+
+    /**
+     * Bundles of the constraint descriptions: Spring REST Docs' descriptions and the Bean Validation
+     * messages they interpolate, of the application and of Hibernate Validator.
+     */
+    private static final List<String> CONSTRAINT_BUNDLES = List.of(
+        "org/springframework/restdocs/constraints/ConstraintDescriptions",
+        "ValidationMessages",
+        "org/hibernate/validator/ValidationMessages");
+
+    /**
+     * Entries per cache file, shared by all caches of the same directory.
+     */
+    private static final Map<Path, Store> STORES = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(
+            () -> STORES.values().forEach(Store::flush), "restdocs-easy-descriptor-cache"));
+    }
+
+    private final Store store;
+    private final String environment;
+
+    private DescriptorDiskCache(Store store, String environment) {
+        this.store = store;
+        this.environment = environment;
+    }
+
+    /**
+     * Creates a cache stored in the given directory. Caches of the same directory share their entries
+     * and are written back at JVM shutdown.
+     *
+     * @param directory the directory of the cache file, created on first write
+     * @param messageSource the message source the descriptions are resolved from, may be null
+     * @param jsonFieldTypeMapper the type mappings used for generation
+     * @param inheritedFields whether superclass fields are generated
+     * @return the cache, or null if the message bundles cannot be fingerprinted
+     */
+    static DescriptorDiskCache create(Path directory, MessageSource messageSource,
+                                      JsonFieldTypeMapper jsonFieldTypeMapper, boolean inheritedFields) {
+        String messages = messagesFingerprint(messageSource);
+        if (messages == null) {
+            log.info("Descriptor disk cache disabled: message source {} is not resource based", messageSource.getClass().getName());
+            return null;
+        }
+        String constraints = constraintsFingerprint();
+        if (constraints == null) {
+            log.info("Descriptor disk cache disabled: constraint description bundles cannot be read");
+            return null;
+        }
+
+        String environment = sha256(String.join("\n",
+            String.valueOf(VERSION),
+            String.valueOf(DescriptorDiskCache.class.getPackage().getImplementationVersion()),
+            messages,
+            constraints,
+            jsonFieldTypeMapper.fingerprint(),
+            String.valueOf(inheritedFields)).getBytes(StandardCharsets.UTF_8));
+
+        Path file = directory.resolve(FILE_NAME).toAbsolutePath().normalize();
+        return new DescriptorDiskCache(STORES.computeIfAbsent(file, Store::new), environment);
+    }
+
+    /**
+     * Returns the stored descriptors of a class if the class and the types they depend on are unchanged.
+     *
+     * @param targetClass the generated class
+     * @param validGroups the validation groups of the generation
+     * @return the stored descriptors, or null if there is no up-to-date entry
+     */
+    List<Descriptor> get(Class<?> targetClass, Collection<Class<?>> validGroups) {
+        Entry entry = store.entries.get(entryKey(targetClass, validGroups));
+        return entry != null
+            && entry.hash().equals(BYTECODE_HASHES.get(targetClass))
+            && isCurrent(entry.dependencies(), targetClass.getClassLoader()) ? entry.descriptors() : null;
+    }
+
+    /**
+     * Stores freshly generated descriptors, replacing a stale entry of the same class.
+     *
+     * @param targetClass the generated class
+     * @param validGroups the validation groups of the generation
+     * @param dependencies the other types whose bytecode the descriptors depend on
+     * @param descriptors the generated descriptors
+     */
+    void put(Class<?> targetClass, Collection<Class<?>> validGroups, Collection<Class<?>> dependencies, List<Descriptor> descriptors) {
+        if (descriptors.stream().allMatch(DescriptorDiskCache::isStorable)) {
+            Map<String, String> hashes = new TreeMap<>();
+            for (Class<?> dependency : dependencies) {
+                if (dependency != targetClass) {
+                    hashes.put(dependency.getName(), BYTECODE_HASHES.get(dependency));
+                }
+            }
+            store.put(entryKey(targetClass, validGroups), new Entry(BYTECODE_HASHES.get(targetClass), Map.copyOf(hashes), descriptors));
+        }
+    }
+
+    /**
+     * Writes the cache file if entries were added since the last write.
+     * Failures are logged, as the cache only speeds up generation.
+     */
+    void flush() {
+        store.flush();
+    }
+
+    private String entryKey(Class<?> targetClass, Collection<Class<?>> validGroups) {
+        List<String> groups = validGroups.stream().map(Class::getName).sorted().toList();
+        return targetClass.getName() + groups + "@" + Locale.getDefault().toLanguageTag() + "@" + environment;
+    }
+
+    private static boolean isCurrent(Map<String, String> dependencies, ClassLoader classLoader) {
+        for (Map.Entry<String, String> dependency : dependencies.entrySet()) {
+            try {
+                Class<?> type = Class.forName(dependency.getKey(), false, classLoader);
+                if (!BYTECODE_HASHES.get(type).equals(dependency.getValue())) {
+                    return false;
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isStorable(Descriptor descriptor) {
+        return (descriptor.description() == null || descriptor.description() instanceof String)
+            && (descriptor.attributes() == null
+                || Arrays.stream(descriptor.attributes()).allMatch(attribute -> attribute.getValue() instanceof String));
+    }
+
+    static Map<String, Entry> read(Path file) {
+        Map<String, Entry> entries = new ConcurrentHashMap<>();
+        if (!Files.isRegularFile(file)) {
+            return entries;
+        }
+
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                return entries;
+            }
+            int count = input.readInt();
+            for (int i = 0; i < count; i++) {
+                String key = input.readUTF();
+                String hash = input.readUTF();
+                int dependencyCount = input.readInt();
+                Map<String, String> dependencies = new HashMap<>();
+                for (int j = 0; j < dependencyCount; j++) {
+                    dependencies.put(input.readUTF(), input.readUTF());
+                }
+                int size = input.readInt();
+                List<Descriptor> descriptors = new ArrayList<>(size);
+                for (int j = 0; j < size; j++) {
+                    descriptors.add(readDescriptor(input).intern());
+                }
+                entries.put(key, new Entry(hash, Map.copyOf(dependencies), List.copyOf(descriptors)));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable descriptor disk cache {}", file, e);
+            entries.clear();
+        }
+        return entries;
+    }
+
+    private static void write(DataOutputStream output, Map<String, Entry> entries) throws IOException {
+        List<Map.Entry<String, Entry>> snapshot = new ArrayList<>(entries.entrySet());
+        snapshot.sort(Map.Entry.comparingByKey(Comparator.naturalOrder()));
+
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(snapshot.size());
+        for (Map.Entry<String, Entry> entry : snapshot) {
+            output.writeUTF(entry.getKey());
+            output.writeUTF(entry.getValue().hash());
+            output.writeInt(entry.getValue().dependencies().size());
+            for (Map.Entry<String, String> dependency : new TreeMap<>(entry.getValue().dependencies()).entrySet()) {
+                output.writeUTF(dependency.getKey());
+                output.writeUTF(dependency.getValue());
+            }
+            output.writeInt(entry.getValue().descriptors().size());
+            for (Descriptor descriptor : entry.getValue().descriptors()) {
+                writeDescriptor(output, descriptor);
+            }
+        }
+    }
+
+    private static Descriptor readDescriptor(DataInputStream input) throws IOException {
+        String prefix = readNullable(input);
+        String name = readNullable(input);
+        String type = readNullable(input);
+        String description = readNullable(input);
+        boolean optional = input.readBoolean();
+        boolean ignore = input.readBoolean();
+
+        int attributeCount = input.readInt();
+        Attributes.Attribute[] attributes = null;
+        if (attributeCount >= 0) {
+            attributes = new Attributes.Attribute[attributeCount];
+            for (int i = 0; i < attributeCount; i++) {
+                attributes[i] = Attributes.key(input.readUTF()).value(readNullable(input));
+            }
+        }
+
+        return Descriptor.builder()
+            .prefix(prefix)
+            .name(name)
+            .type(type == null ? null : JsonFieldType.valueOf(type))
+            .description(description)
+            .optional(optional)
+            .ignore(ignore)
+            .attributes(attributes)
+            .build();
+    }
+
+    private static void writeDescriptor(DataOutputStream output, Descriptor descriptor) throws IOException {
+        writeNullable(output, descriptor.prefix());
+        writeNullable(output, descriptor.name());
+        writeNullable(output, descriptor.type() == null ? null : descriptor.type().name());
+        writeNullable(output, (String) descriptor.description());
+        output.writeBoolean(descriptor.optional());
+        output.writeBoolean(descriptor.ignore());
+
+        Attributes.Attribute[] attributes = descriptor.attributes();
+        output.writeInt(attributes == null ? -1 : attributes.length);
+        if (attributes != null) {
+            for (Attributes.Attribute attribute : attributes) {
+                output.writeUTF(attribute.getKey());
+                writeNullable(output, (String) attribute.getValue());
+            }
+        }
+    }
+
+    /**
+     * Writes a nullable string. Strings are written as length-prefixed UTF-8 bytes,
+     * since constraint descriptions may exceed the 64 KB limit of {@link DataOutputStream#writeUTF}.
+     */
+    private static void writeNullable(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readNullable(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(input.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Hashes the message bundles of a resource-based message source and its parents.
+     *
+     * @param messageSource the message source, may be null
+     * @return the fingerprint, or null if the message source is not resource based
+     */
+    private static String messagesFingerprint(MessageSource messageSource) {
+        MessageSource current = messageSource instanceof CachingMessageSource caching ? caching.getDelegate() : messageSource;
+        List<String> hashes = new ArrayList<>();
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+
+        while (current != null) {
+            if (!(current instanceof AbstractResourceBasedMessageSource resourceBased)) {
+                return null;
+            }
+            for (String basename : resourceBased.getBasenameSet()) {
+                String path = basename.startsWith("classpath:") ? basename.substring("classpath:".length())
+                    : basename.contains("/") ? basename : basename.replace('.', '/');
+                try {
+                    hashBundle(resolver, path, hashes);
+                } catch (IOException e) {
+                    return null;
+                }
+            }
+            current = current instanceof HierarchicalMessageSource hierarchical ? hierarchical.getParentMessageSource() : null;
+        }
+        return sha256(String.join("\n", hashes).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Hashes the bundles the constraint descriptions are resolved from, which applications can override.
+     *
+     * @return the fingerprint, or null if a bundle cannot be read
+     */
+    private static String constraintsFingerprint() {
+        List<String> hashes = new ArrayList<>();
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        try {
+            for (String path : CONSTRAINT_BUNDLES) {
+                hashBundle(resolver, path, hashes);
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return sha256(String.join("\n", hashes).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Adds the hashes of every properties file of a bundle on the classpath, including its locale variants.
+     */
+    private static void hashBundle(PathMatchingResourcePatternResolver resolver, String path, List<String> hashes) throws IOException {
+        Resource[] resources = resolver.getResources("classpath*:" + path + "*.properties");
+        Arrays.sort(resources, Comparator.comparing(Resource::getDescription));
+        for (Resource resource : resources) {
+            try (InputStream input = resource.getInputStream()) {
+                hashes.add(resource.getFilename() + "=" + sha256(input.readAllBytes()));
+            }
+        }
+    }
+
+    private static String bytecodeHash(Class<?> type) {
+        String resource = type.getName().replace('.', '/') + ".class";
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader != null) {
+            try (InputStream input = classLoader.getResourceAsStream(resource)) {
+                if (input != null) {
+                    return sha256(input.readAllBytes());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return sha256((type.getName() + "@" + Runtime.version()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Entries of one cache file.
+     */
+    private static class Store {
+        private final Path file;
+        private final Map<String, Entry> entries;
+        private final Set<String> written = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+
+        Store(Path file) {
+            this.file = file;
+            this.entries = read(file);
+        }
+
+        void put(String key, Entry entry) {
+            entries.put(key, entry);
+            written.add(key);
+            dirty.set(true);
+        }
+
+        /**
+         * Writes the entries written in this JVM over the current contents of the file.
+         */
+        synchronized void flush() {
+            if (!dirty.getAndSet(false)) {
+                return;
+            }
+
+            try {
+                Map<String, Entry> merged = read(file);
+                for (String key : written) {
+                    merged.put(key, entries.get(key));
+                }
+
+                Files.createDirectories(file.getParent());
+                Path temp = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp");
+                try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                    write(output, merged);
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException | UncheckedIOException e) {
+                log.warn("Failed to write descriptor disk cache {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * Stored descriptors of a class.
+     *
+     * @param hash bytecode hash of the class
+     * @param dependencies bytecode hashes of the other types the descriptors were generated from, by class name
+     * @param descriptors the generated descriptors
+     */
+    record Entry(String hash, Map<String, String> dependencies, List<Descriptor> descriptors) {
+    }
+}
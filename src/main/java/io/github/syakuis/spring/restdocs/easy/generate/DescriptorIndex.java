@@ -0,0 +1,169 @@
+package io.github.syakuis.spring.restdocs.easy.generate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Insertion-ordered, name-indexed container of descriptors for "Spring REST Docs Easy".
+ * Backs the bulk edits of an Operator, so that filtering, excluding and updating fields by name
+ * touches only the affected descriptors instead of streaming over every field.
+ *
+ * <p>Key features:</p>
+ * - Keeps descriptors in insertion order, removed entries leave a gap that is skipped on output
+ * - Indexes descriptor positions by field name; several descriptors may share a name (e.g. different prefixes)
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * DescriptorIndex index = new DescriptorIndex(descriptors);
+ * index.remove(Set.of("password"));
+ * index.update(Set.of("nickname"), descriptor -> descriptor.withOptional(true));
+ *
+ * List<Descriptor> result = index.toList();
+ * }</pre>
+ *
+ * <p>Not thread-safe; an index is built and consumed by a single conversion.</p>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+class DescriptorIndex {
+    private final List<Descriptor> slots;
+    private final Map<String, List<Integer>> positions;
+    private int size;
+
+    /**
+     * Creates an index over the given descriptors.
+     *
+     * @param descriptors the initial descriptors, kept in order
+     */
+    DescriptorIndex(List<Descriptor> descriptors) {
+        this.slots = new ArrayList<>(descriptors.size());
+        this.positions = new HashMap<>(Math.max(16, descriptors.size() * 4 / 3 + 1));
+        append(descriptors);
+    }
+
+    /**
+     * Appends descriptors after the existing ones, keeping descriptors with the same name.
+     *
+     * @param descriptors the descriptors to append
+     */
+    void append(Collection<Descriptor> descriptors) {
+        for (Descriptor descriptor : descriptors) {
+            add(descriptor);
+        }
+    }
+
+    /**
+     * Merges descriptors into the index. A descriptor replaces the first descriptor with the same name
+     * in place and drops the other descriptors with that name; descriptors with new names are appended.
+     *
+     * @param descriptors the descriptors that take precedence over existing ones
+     */
+    void merge(Collection<Descriptor> descriptors) {
+        for (Descriptor descriptor : descriptors) {
+            List<Integer> existing = positions.get(descriptor.name());
+            if (existing == null) {
+                add(descriptor);
+                continue;
+            }
+
+            int first = existing.get(0);
+            slots.set(first, descriptor);
+            for (int i = 1; i < existing.size(); i++) {
+                slots.set(existing.get(i), null);
+                size--;
+            }
+            existing.subList(1, existing.size()).clear();
+        }
+    }
+
+    /**
+     * Keeps only the descriptors whose names are in the given set.
+     *
+     * @param names the field names to keep
+     */
+    void retain(Set<String> names) {
+        Iterator<Map.Entry<String, List<Integer>>> iterator = positions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, List<Integer>> entry = iterator.next();
+            if (!names.contains(entry.getKey())) {
+                clear(entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes the descriptors whose names are in the given set.
+     *
+     * @param names the field names to remove
+     */
+    void remove(Set<String> names) {
+        for (String name : names) {
+            List<Integer> removed = positions.remove(name);
+            if (removed != null) {
+                clear(removed);
+            }
+        }
+    }
+
+    /**
+     * Replaces the descriptors whose names are in the given set with their modified version.
+     *
+     * @param names the field names to modify
+     * @param modifier the function returning the modified descriptor
+     */
+    void update(Set<String> names, UnaryOperator<Descriptor> modifier) {
+        for (String name : names) {
+            List<Integer> matched = positions.get(name);
+            if (matched == null) {
+                continue;
+            }
+
+            for (int position : matched) {
+                slots.set(position, modifier.apply(slots.get(position)));
+            }
+        }
+    }
+
+    /**
+     * @return the number of descriptors in the index
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the descriptors in insertion order.
+     *
+     * @return an unmodifiable list of the descriptors
+     */
+    List<Descriptor> toList() {
+        List<Descriptor> result = new ArrayList<>(size);
+        for (Descriptor descriptor : slots) {
+            if (descriptor != null) {
+                result.add(descriptor);
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    private void add(Descriptor descriptor) {
+        positions.computeIfAbsent(descriptor.name(), it -> new ArrayList<>(1)).add(slots.size());
+        slots.add(descriptor);
+        size++;
+    }
+
+    private void clear(List<Integer> removed) {
+        for (int position : removed) {
+            slots.set(position, null);
+            size--;
+        }
+    }
+}
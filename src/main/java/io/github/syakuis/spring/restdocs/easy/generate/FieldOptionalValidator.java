@@ -1,15 +1,13 @@
 package io.github.syakuis.spring.restdocs.easy.generate;
 
 import jakarta.validation.Constraint;
-import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotEmpty;
-import jakarta.validation.constraints.NotNull;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Field validation analyzer for "Spring REST Docs Easy" that determines field optionality
@@ -41,22 +39,24 @@ import java.util.List;
  * boolean hasEmailConstraints = validator.hasValidationConstraint(UserDto.class.getDeclaredField("email"));
  * }</pre>
  *
+ * <p>Both checks are answered from the {@link ConstraintGroupMatrix} of the declaring class. The configured
+ * validation groups are translated into a bitmask once per matrix, so each check is a single bitset
+ * intersection regardless of the group combination.</p>
+ *
  * @author Seok Kyun. Choi.
  * @since 2023-07-14
  */
 public class FieldOptionalValidator {
-
     /**
-     * List of validation groups to be considered during field validation.
-     * This list is injected via constructor and cannot be modified.
+     * Validation groups to be considered during field validation.
+     * The groups are injected via constructor and cannot be modified.
      */
-    private final List<Class<?>> validationGroups;
+    private final Set<Class<?>> validationGroups;
 
     /**
-     * List of validation annotations that indicate a field is mandatory.
-     * This can be extended dynamically if necessary.
+     * Bitmask of the validation groups per constraint matrix.
      */
-    private final List<Class<? extends Annotation>> mandatoryAnnotations = List.of(NotNull.class, NotEmpty.class, NotBlank.class);
+    private final Map<ConstraintGroupMatrix, BitSet> groupMasks = new ConcurrentHashMap<>();
 
     /**
      * Constructor that takes validation groups as a parameter.
@@ -64,55 +64,7 @@ public class FieldOptionalValidator {
      * @param validationGroups The validation groups to be considered during field validation.
      */
     public FieldOptionalValidator(List<Class<?>> validationGroups) {
-        this.validationGroups = validationGroups;
-    }
-
-    /**
-     * Checks if the given annotation is a mandatory validation annotation
-     * (e.g., {@code @NotNull}, {@code @NotEmpty}, {@code @NotBlank}).
-     *
-     * @param annotation The annotation to check.
-     * @return {@code true} if the annotation indicates a mandatory field, otherwise {@code false}.
-     */
-    private boolean isMandatoryAnnotation(Annotation annotation) {
-        return mandatoryAnnotations.contains(annotation.annotationType());
-    }
-
-    /**
-     * Checks if the given annotation has no groups or empty groups, meaning it applies to all groups.
-     *
-     * @param annotation The annotation to check.
-     * @return {@code true} if the annotation's groups are empty or null, otherwise {@code false}.
-     */
-    private boolean hasNoGroups(Annotation annotation) {
-        try {
-            Method groupsMethod = annotation.annotationType().getDeclaredMethod("groups");
-            Class<?>[] annotationGroups = (Class<?>[]) groupsMethod.invoke(annotation);
-            return annotationGroups == null || annotationGroups.length == 0;
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-            return false; // Safe fallback for annotations without "groups"
-        }
-    }
-
-    /**
-     * Checks if the given annotation has any groups matching the provided validation groups.
-     *
-     * @param annotation The annotation to check.
-     * @return {@code true} if the annotation has matching groups, otherwise {@code false}.
-     */
-    private boolean matchesAnyGroup(Annotation annotation) {
-        try {
-            Method groupsMethod = annotation.annotationType().getDeclaredMethod("groups");
-            Class<?>[] annotationGroups = (Class<?>[]) groupsMethod.invoke(annotation);
-            for (Class<?> annotationGroup : annotationGroups) {
-                if (validationGroups.contains(annotationGroup)) {
-                    return true;
-                }
-            }
-            return false;
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-            return false;
-        }
+        this.validationGroups = Set.copyOf(validationGroups);
     }
 
     /**
@@ -120,30 +72,19 @@ public class FieldOptionalValidator {
      * it checks the field based on its validation annotations. If validation groups are provided,
      * it checks whether the field is mandatory in the context of those groups.
      *
-     * @param field The field to check.
+     * <p>A field is mandatory if it has a {@code @NotNull}, {@code @NotEmpty} or {@code @NotBlank}
+     * annotation that either declares no groups or declares one of the configured validation groups.</p>
+     *
+     * @param field The field to check, may be null for properties without a field.
      * @return {@code true} if the field is optional, otherwise {@code false}.
      */
     public boolean isFieldOptional(Field field) {
-        Annotation[] annotations = field.getAnnotations();
-
-        // If no validation groups are provided, check annotations without considering groups.
-        if (validationGroups.isEmpty()) {
-            for (Annotation annotation : annotations) {
-                if (isMandatoryAnnotation(annotation) && hasNoGroups(annotation)) {
-                    return false;
-                }
-            }
+        if (field == null) {
             return true;
         }
 
-        // If validation groups are provided, check annotations within the context of groups.
-        for (Annotation annotation : annotations) {
-            if (isMandatoryAnnotation(annotation) && (hasNoGroups(annotation) || matchesAnyGroup(annotation))) {
-                return false;
-            }
-        }
-
-        return true;
+        ConstraintGroupMatrix matrix = ConstraintGroupMatrix.of(field.getDeclaringClass());
+        return !matrix.isMandatory(field.getName(), groupMask(matrix));
     }
 
     /**
@@ -176,15 +117,11 @@ public class FieldOptionalValidator {
             return false;
         }
 
-        Annotation[] annotations = field.getAnnotations();
-
-        for (Annotation annotation : annotations) {
-            if (annotation.annotationType().isAnnotationPresent(Constraint.class) &&
-                (hasNoGroups(annotation) || matchesAnyGroup(annotation))) {
-                return true;
-            }
-        }
+        ConstraintGroupMatrix matrix = ConstraintGroupMatrix.of(field.getDeclaringClass());
+        return matrix.hasConstraint(field.getName(), groupMask(matrix));
+    }
 
-        return false;
+    private BitSet groupMask(ConstraintGroupMatrix matrix) {
+        return groupMasks.computeIfAbsent(matrix, it -> it.groupMask(validationGroups));
     }
 }
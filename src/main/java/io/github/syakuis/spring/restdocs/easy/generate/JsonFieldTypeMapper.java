@@ -6,6 +6,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Type mapping component for "Spring REST Docs Easy" that converts Java types
@@ -19,6 +20,13 @@ import java.util.*;
  * - Date/Time: LocalDateTime, LocalDate, LocalTime → STRING
  * - Others: Enum, UUID, Currency, Locale → STRING
  *
+ * <p>When a type matches several mappings, the most specific one wins, e.g. a {@code BigDecimal}
+ * mapping takes precedence over the {@code Number} mapping. Resolved types are memoized per class
+ * until the mappings are changed.</p>
+ *
+ * <p>A mapper is meant to be configured by a single thread. {@link #snapshot()} returns an immutable copy
+ * that can be shared by concurrently running tests; RestDocs instances only use such snapshots.</p>
+ *
  * <p>Example usage:</p>
  * <pre>{@code
  * JsonFieldTypeMapper mapper = new JsonFieldTypeMapper();
@@ -37,9 +45,18 @@ import java.util.*;
  * @since 2024-10-18
  */
 public class JsonFieldTypeMapper {
-    private final Map<Class<?>, JsonFieldType> data = new HashMap<>();
+    private final Map<Class<?>, JsonFieldType> data;
+    private final boolean frozen;
+
+    /**
+     * Resolved JsonFieldType per class. Replaced whenever the mappings change.
+     */
+    private volatile ClassValue<JsonFieldType> resolved = newResolvedCache();
 
     public JsonFieldTypeMapper() {
+        this.data = new HashMap<>();
+        this.frozen = false;
+
         // Define mappings for common types
         data.put(Map.class, JsonFieldType.OBJECT);
         data.put(Collection.class, JsonFieldType.ARRAY);
@@ -75,6 +92,22 @@ public class JsonFieldTypeMapper {
         data.put(UUID.class, JsonFieldType.STRING);
     }
 
+    private JsonFieldTypeMapper(Map<Class<?>, JsonFieldType> data) {
+        this.data = Map.copyOf(data);
+        this.frozen = true;
+    }
+
+    /**
+     * Returns an immutable copy of the current mappings, safe to share between threads.
+     * Modifying the snapshot throws {@link UnsupportedOperationException}; later changes
+     * to this mapper do not affect it.
+     *
+     * @return the frozen mapper, or this mapper if it is already frozen
+     */
+    public JsonFieldTypeMapper snapshot() {
+        return frozen ? this : new JsonFieldTypeMapper(data);
+    }
+
     /**
      * Determines the JsonFieldType for a given Java class type.
      * Uses type hierarchy traversal to find the most appropriate mapping.
@@ -82,7 +115,7 @@ public class JsonFieldTypeMapper {
      * <p>Resolution strategy:</p>
      * 1. If type is array → ARRAY
      * 2. If direct mapping exists → mapped type
-     * 3. If assignable from mapped type → mapped type
+     * 3. Most specific mapped superclass or interface → mapped type
      * 4. Default → OBJECT
      *
      * @param objectType the Class type to map to JsonFieldType
@@ -93,11 +126,83 @@ public class JsonFieldTypeMapper {
             return JsonFieldType.ARRAY;
         }
 
+        return resolved.get(objectType);
+    }
+
+    /**
+     * Walks the superclass and interface hierarchy of a type breadth-first and returns the mapping
+     * of the most specific registered type. A candidate is discarded if another candidate is a subtype
+     * of it; remaining ties go to the type closest to {@code objectType}, superclasses before interfaces.
+     *
+     * @param objectType the Class type to resolve
+     * @return the mapped JsonFieldType, or OBJECT if no mapping applies
+     */
+    private JsonFieldType resolve(Class<?> objectType) {
+        List<Class<?>> candidates = new ArrayList<>();
+        Set<Class<?>> visited = new HashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(objectType);
+
+        while (!queue.isEmpty()) {
+            Class<?> type = queue.poll();
+            if (!visited.add(type)) {
+                continue;
+            }
+            if (data.containsKey(type)) {
+                candidates.add(type);
+            }
+            if (type.getSuperclass() != null) {
+                queue.add(type.getSuperclass());
+            }
+            queue.addAll(Arrays.asList(type.getInterfaces()));
+        }
+
+        if (candidates.isEmpty() && !objectType.isPrimitive() && data.containsKey(Object.class)) {
+            candidates.add(Object.class);
+        }
+
+        for (Class<?> candidate : candidates) {
+            boolean mostSpecific = candidates.stream()
+                .noneMatch(other -> other != candidate && candidate.isAssignableFrom(other));
+            if (mostSpecific) {
+                return data.get(candidate);
+            }
+        }
+        return JsonFieldType.OBJECT;
+    }
+
+    /**
+     * Returns a stable textual form of the mappings, used to detect changed configurations.
+     *
+     * @return the mappings sorted by type name
+     */
+    String fingerprint() {
         return data.entrySet().stream()
-            .filter(entry -> entry.getKey().isAssignableFrom(objectType))
-            .map(Map.Entry::getValue)
-            .findFirst()
-            .orElse(JsonFieldType.OBJECT);
+            .map(entry -> entry.getKey().getName() + "=" + entry.getValue())
+            .sorted()
+            .collect(Collectors.joining(","));
+    }
+
+    private ClassValue<JsonFieldType> newResolvedCache() {
+        return new ClassValue<>() {
+            @Override
+            protected JsonFieldType computeValue(Class<?> type) {
+                return resolve(type);
+            }
+        };
+    }
+
+    /**
+     * Drops all memoized resolutions after the mappings changed.
+     */
+    private void invalidate() {
+        resolved = newResolvedCache();
+    }
+
+    private void checkModifiable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("JsonFieldTypeMapper snapshot cannot be modified");
+        }
     }
 
     /**
@@ -107,8 +212,10 @@ public class JsonFieldTypeMapper {
      * @param newData map of new type mappings to use
      */
     public void set(Map<Class<?>, JsonFieldType> newData) {
+        checkModifiable();
         data.clear();
         data.putAll(newData);
+        invalidate();
     }
 
     /**
@@ -119,7 +226,9 @@ public class JsonFieldTypeMapper {
      * @param jsonFieldType the corresponding documentation type
      */
     public void add(Class<?> type, JsonFieldType jsonFieldType) {
+        checkModifiable();
         data.put(type, jsonFieldType);
+        invalidate();
     }
 
     /**
@@ -129,7 +238,9 @@ public class JsonFieldTypeMapper {
      * @param type the type mapping to remove
      */
     public void remove(Class<?> type) {
+        checkModifiable();
         data.remove(type);
+        invalidate();
     }
 
     /**
@@ -139,7 +250,9 @@ public class JsonFieldTypeMapper {
      * @param additionalData map of additional type mappings
      */
     public void addAll(Map<Class<?>, JsonFieldType> additionalData) {
+        checkModifiable();
         data.putAll(additionalData);
+        invalidate();
     }
 
     /**
@@ -149,8 +262,10 @@ public class JsonFieldTypeMapper {
      * @param typesToRemove collection of types whose mappings should be removed
      */
     public void removeAll(Collection<Class<?>> typesToRemove) {
+        checkModifiable();
         for (Class<?> type : typesToRemove) {
             data.remove(type);
         }
+        invalidate();
     }
 }
@@ -1,5 +1,6 @@
 package io.github.syakuis.spring.restdocs.easy.generate;
 
+import io.github.syakuis.spring.restdocs.easy.core.CacheStatistics;
 import org.springframework.restdocs.cookies.CookieDescriptor;
 import org.springframework.restdocs.cookies.RequestCookiesSnippet;
 import org.springframework.restdocs.cookies.ResponseCookiesSnippet;
@@ -103,6 +104,48 @@ public interface RestDocs {
      */
     Operator generate(String prefix, Class<?> targetClass, Class<?>... validGroups);
 
+    /**
+     * Generates documentation descriptors for a class and the nested types of its fields
+     * up to {@link ClassDescriptorGenerator#DEFAULT_MAX_DEPTH} levels.
+     *
+     * @param prefix prefix to add to field paths (can be null)
+     * @param targetClass the class to generate descriptors for
+     * @param validGroups validation groups to consider
+     * @return an Operator containing the generated descriptors
+     * @see ClassDescriptorGenerator#generateRecursive(String, Class, Class[])
+     */
+    default Operator generateRecursive(String prefix, Class<?> targetClass, Class<?>... validGroups) {
+        return generateRecursive(prefix, targetClass, ClassDescriptorGenerator.DEFAULT_MAX_DEPTH, validGroups);
+    }
+
+    /**
+     * Generates documentation descriptors for a class and the nested types of its fields,
+     * e.g. "addresses[].city" for a {@code List<Address> addresses} field.
+     * Implementations that do not support nested types throw {@link UnsupportedOperationException}.
+     *
+     * @param prefix prefix to add to field paths (can be null)
+     * @param targetClass the class to generate descriptors for
+     * @param maxDepth maximum number of nested levels to expand
+     * @param validGroups validation groups to consider
+     * @return an Operator containing the generated descriptors
+     * @see ClassDescriptorGenerator#generateRecursive(String, Class, int, Class[])
+     */
+    default Operator generateRecursive(String prefix, Class<?> targetClass, int maxDepth, Class<?>... validGroups) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support recursive descriptor generation");
+    }
+
+    /**
+     * Returns the hit and miss counters of the resolved-message cache.
+     * Shows how much message resolution work the documentation tests perform.
+     * Implementations without a message cache report no lookups.
+     *
+     * @return a snapshot of the message cache statistics
+     * @see CachingMessageSource
+     */
+    default CacheStatistics messageCacheStatistics() {
+        return new CacheStatistics(0, 0);
+    }
+
     /**
      * Provides a builder for creating RestDocs instances.
      *
@@ -116,6 +159,13 @@ public interface RestDocs {
      * Operator interface for manipulating and generating documentation snippets.
      * Provides methods for filtering, modifying, and converting descriptors into
      * various Spring REST Docs snippet types.
+     *
+     * @apiNote Operators are immutable. Every edit returns a new operator and leaves the operator it was
+     * called on unchanged, so edits must be chained or the result reassigned:
+     * <pre>{@code
+     * Operator operator = restDocs.generate(UserDto.class);
+     * operator = operator.optional("email");   // operator.optional("email"); alone has no effect
+     * }</pre>
      */
     interface Operator {
 
@@ -125,7 +175,7 @@ public interface RestDocs {
          * @param prefix prefix for field paths
          * @param targetClass class to generate descriptors from
          * @param validGroups validation groups to consider
-         * @return this operator instance
+         * @return a new operator with the edit applied; this operator is unchanged
          */
         Operator addAll(String prefix, Class<?> targetClass, Class<?>... validGroups);
 
@@ -133,7 +183,7 @@ public interface RestDocs {
          * Adds all descriptors from the provided list.
          *
          * @param descriptor list of descriptors to add
-         * @return this operator instance
+         * @return a new operator with the edit applied; this operator is unchanged
          */
         Operator addAll(List<Descriptor> descriptor);
 
@@ -141,7 +191,7 @@ public interface RestDocs {
          * Adds the specified descriptors.
          *
          * @param descriptor descriptors to add
-         * @return this operator instance
+         * @return a new operator with the edit applied; this operator is unchanged
          */
         Operator addAll(Descriptor... descriptor);
 
@@ -149,7 +199,7 @@ public interface RestDocs {
          * Filters descriptors to include only the specified field names.
          *
          * @param fieldName field names to include
-         * @return this operator instance
+         * @return a new operator with the edit applied; this operator is unchanged
          */
         Operator filter(String... fieldName);
 
@@ -157,7 +207,7 @@ public interface RestDocs {
          * Excludes specified fields from documentation.
          *
          * @param fieldName field names to exclude
-         * @return this operator instance
+         * @return a new operator with the edit applied; this operator is unchanged
          */
         Operator exclude(String... fieldName);
 
@@ -165,7 +215,7 @@ public interface RestDocs {
          * Marks specified fields as optional.
          *
          * @param fieldName field names to mark as optional
-         * @return this operator instance
+         * @return a new operator with the edit applied; this operator is unchanged
          */
         Operator optional(String... fieldName);
 
@@ -173,7 +223,7 @@ public interface RestDocs {
          * Marks specified fields as required.
          *
          * @param fieldName field names to mark as required
-         * @return this operator instance
+         * @return a new operator with the edit applied; this operator is unchanged
          */
         Operator require(String... fieldName);
 
@@ -181,7 +231,7 @@ public interface RestDocs {
          * Marks specified fields to be ignored in documentation.
          *
          * @param fieldName field names to ignore
-         * @return this operator instance
+         * @return a new operator with the edit applied; this operator is unchanged
          */
         Operator ignore(String... fieldName);
 
@@ -189,7 +239,7 @@ public interface RestDocs {
          * Marks specified fields to not be ignored in documentation.
          *
          * @param fieldName field names to not ignore
-         * @return this operator instance
+         * @return a new operator with the edit applied; this operator is unchanged
          */
         Operator notIgnore(String... fieldName);
 
@@ -1,7 +1,10 @@
 package io.github.syakuis.spring.restdocs.easy.generate;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.MessageSource;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.function.Consumer;
 
 /**
@@ -9,6 +12,10 @@ import java.util.function.Consumer;
  * Provides a fluent API to configure message sources and JSON field type mappings
  * for REST API documentation.
  *
+ * <p>Options added after the first release have default implementations that accept only the
+ * default value and throw {@link UnsupportedOperationException} otherwise, so existing
+ * implementations keep compiling.</p>
+ *
  * <p>Example usage:</p>
  * <pre>{@code
  * RestDocs restDocs = RestDocs.builder()
@@ -38,6 +45,87 @@ public interface RestDocsBuilder {
      */
     RestDocsBuilder messageSource(MessageSource messageSource);
 
+    /**
+     * Sets how long resolved messages are cached.
+     * Should match the reload interval of the message source, e.g. {@code spring.messages.cache-duration}.
+     *
+     * <p>Values:</p>
+     * - null or negative: messages are cached until the cache is cleared (default)
+     * - zero: messages are not cached
+     * - positive: cached messages are dropped whenever the duration elapses
+     *
+     * @param cacheDuration how long resolved messages are cached
+     * @return this builder instance
+     * @see CachingMessageSource
+     */
+    default RestDocsBuilder messageCacheDuration(Duration cacheDuration) {
+        if (cacheDuration == null || cacheDuration.isNegative()) {
+            return this;
+        }
+        throw new UnsupportedOperationException(getClass().getName() + " does not support a message cache duration");
+    }
+
+    /**
+     * Sets whether fields declared in superclasses are documented as well.
+     * Superclass fields come first, and a field declared again in a subclass shadows the parent field.
+     * Defaults to false, documenting only the fields declared by the class itself.
+     *
+     * @param inheritedFields true to document inherited fields
+     * @return this builder instance
+     */
+    default RestDocsBuilder inheritedFields(boolean inheritedFields) {
+        if (!inheritedFields) {
+            return this;
+        }
+        throw new UnsupportedOperationException(getClass().getName() + " does not support inherited fields");
+    }
+
+    /**
+     * Documents fields as serialized by the given ObjectMapper instead of as declared in the class.
+     * Field names follow {@code @JsonProperty} and the naming strategy, {@code @JsonIgnore}d properties
+     * are left out and {@code @JsonUnwrapped} properties are flattened into the enclosing object.
+     * Messages and validation constraints are still looked up by the Java field name.
+     *
+     * @param objectMapper the ObjectMapper that serializes the documented payloads, or null to use the declared fields
+     * @return this builder instance
+     * @see io.github.syakuis.spring.restdocs.easy.core.JacksonMetadataGenerator
+     */
+    default RestDocsBuilder objectMapper(ObjectMapper objectMapper) {
+        if (objectMapper == null) {
+            return this;
+        }
+        throw new UnsupportedOperationException(getClass().getName() + " does not support Jackson metadata");
+    }
+
+    /**
+     * Sets the {@code @JsonView} whose properties are documented.
+     * Only applies together with {@link #objectMapper(ObjectMapper)}.
+     *
+     * @param jsonView the active view, or null for none
+     * @return this builder instance
+     */
+    default RestDocsBuilder jsonView(Class<?> jsonView) {
+        if (jsonView == null) {
+            return this;
+        }
+        throw new UnsupportedOperationException(getClass().getName() + " does not support JSON views");
+    }
+
+    /**
+     * Keeps generated descriptors in a file in the given directory, e.g. {@code build/restdocs-easy},
+     * so later test runs only reflect and resolve the classes that changed.
+     * Requires a resource-based message source and is not used with {@link #objectMapper(ObjectMapper)}.
+     *
+     * @param directory the cache directory, or null to disable the disk cache (default)
+     * @return this builder instance
+     */
+    default RestDocsBuilder descriptorCache(Path directory) {
+        if (directory == null) {
+            return this;
+        }
+        throw new UnsupportedOperationException(getClass().getName() + " does not support a descriptor disk cache");
+    }
+
     /**
      * Configures custom JSON field type mappings.
      * Allows customization of how Java types are mapped to JSON field types
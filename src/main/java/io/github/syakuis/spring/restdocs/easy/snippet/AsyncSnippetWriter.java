@@ -0,0 +1,187 @@
+package io.github.syakuis.spring.restdocs.easy.snippet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Background writer of rendered snippets for "Spring REST Docs Easy".
+ * Test threads hand rendered snippets to a bounded queue and continue; a dedicated writer thread
+ * drains the queue in batches, creating the directories of a batch once before writing its files.
+ *
+ * <p>When the queue is full, submitting blocks until the writer catches up, which bounds the memory
+ * held by pending snippets. The first write failure is kept and thrown by every later
+ * {@link #submit(Path, byte[])}, {@link #flush()} and {@link #close()}, so a failed write still fails
+ * the tests.</p>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ * @see SkipUnchangedWriterResolver
+ */
+class AsyncSnippetWriter implements AutoCloseable {
+    /**
+     * Writes one snippet file whose directory already exists.
+     */
+    @FunctionalInterface
+    interface Sink {
+        void write(Path file, byte[] content) throws IOException;
+    }
+
+    private final BlockingQueue<PendingSnippet> queue;
+    private final Sink sink;
+    private final Thread thread;
+    private final Set<Path> createdDirectories = new HashSet<>();
+
+    private final Object lock = new Object();
+    private long pending;
+    private boolean closed;
+    private volatile IOException failure;
+
+    /**
+     * Creates the writer and starts its writer thread.
+     *
+     * @param capacity maximum number of snippets waiting to be written
+     * @param sink the writer of a single snippet file
+     */
+    AsyncSnippetWriter(int capacity, Sink sink) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.sink = sink;
+        this.thread = new Thread(this::drain, "restdocs-easy-snippet-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Queues a rendered snippet, blocking while the queue is full.
+     *
+     * @param file the snippet file
+     * @param content the rendered snippet
+     * @throws IOException if an earlier write failed or the writer is closed
+     */
+    void submit(Path file, byte[] content) throws IOException {
+        rethrowFailure();
+
+        // Counted under the lock, so close() waits for every snippet accepted before it
+        synchronized (lock) {
+            if (closed) {
+                throw new IOException("Snippet writer is closed, cannot write " + file);
+            }
+            pending++;
+        }
+        try {
+            queue.put(new PendingSnippet(file, content));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            completed(1);
+            throw new IOException("Interrupted while queueing snippet " + file, e);
+        }
+    }
+
+    /**
+     * Waits until all queued snippets are written.
+     *
+     * @throws IOException if a snippet could not be written
+     */
+    void flush() throws IOException {
+        synchronized (lock) {
+            while (pending > 0 && thread.isAlive()) {
+                try {
+                    lock.wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while flushing snippets", e);
+                }
+            }
+        }
+        rethrowFailure();
+    }
+
+    /**
+     * Rejects further snippets, writes the queued snippets and stops the writer thread.
+     *
+     * @throws IOException if a snippet could not be written
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            closed = true;
+        }
+        try {
+            flush();
+        } finally {
+            thread.interrupt();
+        }
+    }
+
+    private void drain() {
+        List<PendingSnippet> batch = new ArrayList<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch);
+
+            write(batch);
+            completed(batch.size());
+            batch.clear();
+        }
+    }
+
+    private void write(List<PendingSnippet> batch) {
+        if (failure != null) {
+            return;
+        }
+
+        try {
+            Set<Path> directories = new LinkedHashSet<>();
+            for (PendingSnippet snippet : batch) {
+                directories.add(snippet.file().getParent());
+            }
+            for (Path directory : directories) {
+                if (createdDirectories.add(directory)) {
+                    Files.createDirectories(directory);
+                }
+            }
+
+            for (PendingSnippet snippet : batch) {
+                sink.write(snippet.file(), snippet.content());
+            }
+        } catch (IOException | RuntimeException e) {
+            failure = e instanceof IOException io ? io : new IOException(e);
+        }
+    }
+
+    private void completed(int count) {
+        synchronized (lock) {
+            pending -= count;
+            if (pending <= 0) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void rethrowFailure() throws IOException {
+        IOException current = failure;
+        if (current != null) {
+            throw new IOException("Failed to write REST Docs snippets", current);
+        }
+    }
+
+    /**
+     * Rendered snippet waiting to be written.
+     *
+     * @param file the snippet file
+     * @param content the rendered snippet
+     */
+    private record PendingSnippet(Path file, byte[] content) {
+    }
+}
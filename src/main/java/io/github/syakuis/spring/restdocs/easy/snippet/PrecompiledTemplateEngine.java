@@ -0,0 +1,175 @@
+package io.github.syakuis.spring.restdocs.easy.snippet;
+
+import org.springframework.core.io.Resource;
+import org.springframework.restdocs.mustache.Mustache;
+import org.springframework.restdocs.templates.StandardTemplateResourceResolver;
+import org.springframework.restdocs.templates.Template;
+import org.springframework.restdocs.templates.TemplateEngine;
+import org.springframework.restdocs.templates.TemplateFormat;
+import org.springframework.restdocs.templates.TemplateFormats;
+import org.springframework.restdocs.templates.TemplateResourceResolver;
+import org.springframework.restdocs.templates.mustache.AsciidoctorTableCellContentLambda;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Snippet {@link TemplateEngine} for "Spring REST Docs Easy" that compiles each Mustache template once per JVM.
+ * Spring REST Docs' own engine resolves, reads and parses a template for every snippet it renders;
+ * this engine keeps the compiled templates, including the templates bundled with this library
+ * such as {@code default-request-fields.snippet}, and reuses them for all operations.
+ *
+ * <p>Templates are resolved like Spring REST Docs does, through a {@link StandardTemplateResourceResolver}
+ * for the template format of the engine, which must be the configured snippet format. They are compiled
+ * with the same settings: HTML escaping is off, and Asciidoctor templates get the {@code tableCellContent}
+ * lambda. Rendering writes into a per-thread reusable buffer, so rendering
+ * a table with many rows does not grow a new buffer for every snippet.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * MockMvcRestDocumentation.documentationConfiguration(restDocumentation)
+ *     .snippets().withTemplateFormat(TemplateFormats.markdown()).and()
+ *     .templateEngine(new PrecompiledTemplateEngine(TemplateFormats.markdown()));
+ * }</pre>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+public class PrecompiledTemplateEngine implements TemplateEngine {
+    /**
+     * Compiled templates per template format and name, shared by all engines of the JVM.
+     */
+    private static final Map<TemplateKey, org.springframework.restdocs.mustache.Template> COMPILED = new ConcurrentHashMap<>();
+
+    /**
+     * Render buffers are dropped instead of reused once they exceed this many characters.
+     */
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilderWriter> BUFFER = ThreadLocal.withInitial(StringBuilderWriter::new);
+
+    private final TemplateFormat templateFormat;
+    private final TemplateResourceResolver templateResourceResolver;
+    private final Mustache.Compiler compiler = Mustache.compiler().escapeHTML(false);
+    private final Map<String, Object> context;
+
+    /**
+     * Creates an engine for templates of the given format.
+     *
+     * @param templateFormat the format of the templates
+     */
+    public PrecompiledTemplateEngine(TemplateFormat templateFormat) {
+        this.templateFormat = templateFormat;
+        this.templateResourceResolver = new StandardTemplateResourceResolver(templateFormat);
+        this.context = TemplateFormats.asciidoctor().getId().equals(templateFormat.getId())
+            ? Map.of("tableCellContent", new AsciidoctorTableCellContentLambda())
+            : Map.of();
+    }
+
+    /**
+     * @return an engine for Asciidoctor templates, the Spring REST Docs default
+     */
+    public static PrecompiledTemplateEngine asciidoctor() {
+        return new PrecompiledTemplateEngine(TemplateFormats.asciidoctor());
+    }
+
+    @Override
+    public Template compileTemplate(String name) throws IOException {
+        try {
+            return new PrecompiledTemplate(COMPILED.computeIfAbsent(new TemplateKey(templateFormat.getId(), name), key -> compile(name)));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private org.springframework.restdocs.mustache.Template compile(String name) {
+        Resource resource = templateResourceResolver.resolveTemplateResource(name);
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            return compiler.compile(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Compiled template rendering into the reusable buffer of the current thread.
+     */
+    private class PrecompiledTemplate implements Template {
+        private final org.springframework.restdocs.mustache.Template delegate;
+
+        PrecompiledTemplate(org.springframework.restdocs.mustache.Template delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String render(Map<String, Object> model) {
+            // Like Spring REST Docs' MustacheTemplate, model entries take precedence over the engine context
+            Map<String, Object> merged = new HashMap<>(context);
+            merged.putAll(model);
+
+            StringBuilderWriter writer = BUFFER.get();
+            writer.reset();
+            delegate.execute(merged, writer);
+            String result = writer.toString();
+
+            if (writer.capacity() > MAX_RETAINED_BUFFER) {
+                BUFFER.remove();
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Writer appending to a reusable StringBuilder.
+     */
+    private static class StringBuilderWriter extends Writer {
+        private final StringBuilder builder = new StringBuilder(1024);
+
+        void reset() {
+            builder.setLength(0);
+        }
+
+        int capacity() {
+            return builder.capacity();
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            builder.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(String string, int offset, int length) {
+            builder.append(string, offset, offset + length);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Cache key of a compiled template.
+     *
+     * @param formatId the id of the template format
+     * @param name the template name, e.g. {@code request-fields}
+     */
+    private record TemplateKey(String formatId, String name) {
+    }
+}
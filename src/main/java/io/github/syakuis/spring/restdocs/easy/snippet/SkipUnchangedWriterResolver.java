@@ -0,0 +1,221 @@
+package io.github.syakuis.spring.restdocs.easy.snippet;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.snippet.PlaceholderResolverFactory;
+import org.springframework.restdocs.snippet.RestDocumentationContextPlaceholderResolverFactory;
+import org.springframework.restdocs.snippet.WriterResolver;
+import org.springframework.restdocs.templates.TemplateFormat;
+import org.springframework.restdocs.templates.TemplateFormats;
+import org.springframework.util.PropertyPlaceholderHelper;
+import org.springframework.util.PropertyPlaceholderHelper.PlaceholderResolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Snippet {@link WriterResolver} for "Spring REST Docs Easy" that leaves unchanged snippet files untouched.
+ * Snippets are rendered into memory; on close the content is compared with the content of the existing
+ * file, and the file is only rewritten when they differ. Unchanged snippets keep their modification time,
+ * so incremental documentation builds that watch the snippet directory are near no-ops.
+ *
+ * <p>With an asynchronous queue capacity, the comparison and the file write are handed to a
+ * dedicated writer thread, so test threads do not block on file I/O. Write failures are thrown by
+ * the next snippet, by {@link #flush()} and by {@link #close()}.</p>
+ *
+ * <p>Resolves snippet paths like Spring REST Docs' standard writer resolver: placeholders in the operation
+ * and snippet names are replaced, relative paths are resolved against the output directory of the
+ * documentation context, and snippets are written to standard out if there is no output directory.
+ * The encoding and template format are fixed when the resolver is created and must match the ones
+ * configured with {@code snippets().withEncoding(..)} and {@code snippets().withTemplateFormat(..)}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * SkipUnchangedWriterResolver writerResolver = new SkipUnchangedWriterResolver();
+ * MockMvcRestDocumentation.documentationConfiguration(restDocumentation).writerResolver(writerResolver);
+ *
+ * log.info("snippets written: {}, skipped: {}", writerResolver.statistics().written(), writerResolver.statistics().skipped());
+ * }</pre>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+@Slf4j
+public class SkipUnchangedWriterResolver implements WriterResolver, AutoCloseable {
+    private final PropertyPlaceholderHelper propertyPlaceholderHelper = new PropertyPlaceholderHelper("{", "}");
+    private final PlaceholderResolverFactory placeholderResolverFactory;
+    private final Charset encoding;
+    private final TemplateFormat templateFormat;
+    private final AsyncSnippetWriter asyncWriter;
+
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder skippedCount = new LongAdder();
+
+    /**
+     * Creates a resolver writing UTF-8 encoded Asciidoctor snippets, the Spring REST Docs defaults.
+     */
+    public SkipUnchangedWriterResolver() {
+        this(0);
+    }
+
+    /**
+     * Creates a resolver writing UTF-8 encoded Asciidoctor snippets on a background thread.
+     *
+     * @param asyncQueueCapacity maximum number of snippets waiting to be written; 0 writes synchronously
+     */
+    public SkipUnchangedWriterResolver(int asyncQueueCapacity) {
+        this(new RestDocumentationContextPlaceholderResolverFactory(), StandardCharsets.UTF_8, TemplateFormats.asciidoctor(),
+            asyncQueueCapacity);
+    }
+
+    /**
+     * Creates a resolver with the given placeholder resolution, encoding and snippet format.
+     *
+     * @param placeholderResolverFactory the factory of the resolvers of path placeholders
+     * @param encoding the encoding of the snippet files
+     * @param templateFormat the format whose file extension the snippets get
+     * @param asyncQueueCapacity maximum number of snippets waiting to be written; 0 writes synchronously
+     */
+    public SkipUnchangedWriterResolver(PlaceholderResolverFactory placeholderResolverFactory, Charset encoding,
+                                       TemplateFormat templateFormat, int asyncQueueCapacity) {
+        this.placeholderResolverFactory = placeholderResolverFactory;
+        this.encoding = encoding;
+        this.templateFormat = templateFormat;
+        this.asyncWriter = asyncQueueCapacity > 0
+            ? new AsyncSnippetWriter(asyncQueueCapacity, (file, content) -> write(file, content, false))
+            : null;
+    }
+
+    @Override
+    public Writer resolve(String operationName, String snippetName, RestDocumentationContext context) throws IOException {
+        PlaceholderResolver placeholderResolver = placeholderResolverFactory.create(context);
+        String outputDirectory = propertyPlaceholderHelper.replacePlaceholders(operationName, placeholderResolver);
+        String fileName = propertyPlaceholderHelper.replacePlaceholders(snippetName, placeholderResolver)
+            + "." + templateFormat.getFileExtension();
+
+        File outputFile = resolveFile(outputDirectory, fileName, context);
+        if (outputFile == null) {
+            return new OutputStreamWriter(System.out, encoding);
+        }
+        return new SnippetWriter(outputFile.toPath());
+    }
+
+    /**
+     * Returns the number of snippets written and skipped so far.
+     *
+     * @return a snapshot of the counters
+     */
+    public Statistics statistics() {
+        return new Statistics(writtenCount.sum(), skippedCount.sum());
+    }
+
+    /**
+     * Logs how many snippets were written and skipped, e.g. when the test context is closed.
+     */
+    public void report() {
+        Statistics statistics = statistics();
+        log.info("REST Docs snippets written: {}, unchanged and skipped: {}", statistics.written(), statistics.skipped());
+    }
+
+    /**
+     * Waits until all snippets handed to the background writer are written.
+     * Returns immediately when writing synchronously.
+     *
+     * @throws IOException if a snippet could not be written
+     */
+    public void flush() throws IOException {
+        if (asyncWriter != null) {
+            asyncWriter.flush();
+        }
+    }
+
+    /**
+     * Writes the pending snippets, stops the background writer and logs the statistics.
+     *
+     * @throws IOException if a snippet could not be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (asyncWriter != null) {
+                asyncWriter.close();
+            }
+        } finally {
+            report();
+        }
+    }
+
+    private File resolveFile(String outputDirectory, String fileName, RestDocumentationContext context) {
+        File outputFile = new File(outputDirectory, fileName);
+        if (outputFile.isAbsolute()) {
+            return outputFile;
+        }
+        File contextOutputDirectory = context.getOutputDirectory();
+        return contextOutputDirectory != null ? new File(contextOutputDirectory, outputFile.getPath()) : null;
+    }
+
+    /**
+     * Writes the rendered content unless the file already holds the same content.
+     *
+     * @param file the snippet file
+     * @param content the rendered snippet
+     * @param createDirectories whether the directory of the file may need to be created
+     * @throws IOException if the file cannot be read or written
+     */
+    void write(Path file, byte[] content, boolean createDirectories) throws IOException {
+        if (Files.isRegularFile(file) && Files.size(file) == content.length
+            && Arrays.equals(Files.readAllBytes(file), content)) {
+            skippedCount.increment();
+            return;
+        }
+
+        if (createDirectories) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, content);
+        writtenCount.increment();
+    }
+
+    /**
+     * In-memory writer of one snippet, written or queued on close.
+     */
+    private class SnippetWriter extends StringWriter {
+        private final Path file;
+        private boolean closed;
+
+        SnippetWriter(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                byte[] content = toString().getBytes(encoding);
+                if (asyncWriter != null) {
+                    asyncWriter.submit(file, content);
+                } else {
+                    write(file, content, true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Snippet write counters.
+     *
+     * @param written number of snippets whose file was created or rewritten
+     * @param skipped number of snippets whose file already had the rendered content
+     */
+    public record Statistics(long written, long skipped) {
+    }
+}
@@ -0,0 +1,396 @@
+package io.github.syakuis.spring.restdocs.easy.snippet;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Reader of the aggregated snippet file of "Spring REST Docs Easy", an append-only NDJSON file
+ * holding one JSON record per rendered snippet.
+ *
+ * <p>Record format, one per line:</p>
+ * <pre>{@code
+ * {"operation":"user-get","snippet":"response-fields","path":"user-get/response-fields.adoc","content":"|===\n...",
+ *  "model":{"fields":[{"path":"name","type":"String","description":"Name","optional":false}]}}
+ * }</pre>
+ *
+ * <p>{@code model} holds the raw data the snippet was rendered from, such as the field descriptors,
+ * when the snippets are rendered through a {@link SnippetStoreTemplateEngine}; otherwise it is absent.</p>
+ *
+ * <p>The file is memory-mapped and indexed by snippet path when it is opened; only the path of each
+ * record is parsed for the index, and the content is decoded on lookup. When a path occurs several
+ * times, the last record wins. Files larger than a single mapping are mapped in several segments,
+ * each ending at a record boundary.</p>
+ *
+ * <p>Asciidoctor reads the snippets straight from the store through the include processor of the
+ * {@code spring-restdocs-easy-asciidoctor} extension. Without it, the store can be extracted into snippet
+ * files, which brings back one file per snippet, e.g. by running this class with the store file and the
+ * output directory:</p>
+ * <pre>{@code
+ * java io.github.syakuis.spring.restdocs.easy.snippet.SnippetStore build/generated-snippets/snippets.ndjson build/generated-snippets
+ * }</pre>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * try (SnippetStore store = SnippetStore.open(Path.of("build/generated-snippets/snippets.ndjson"))) {
+ *     String responseFields = store.get("user-get/response-fields.adoc").orElseThrow();
+ *     store.extract(Path.of("build/generated-snippets"));
+ * }
+ * }</pre>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ * @see SnippetStoreWriterResolver
+ */
+public final class SnippetStore implements AutoCloseable {
+    /**
+     * File name of the store within the snippet output directory.
+     */
+    public static final String FILE_NAME = "snippets.ndjson";
+
+    static final Charset ENCODING = StandardCharsets.UTF_8;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * Maximum size of one mapped segment of the file.
+     */
+    private static final long SEGMENT_SIZE = Integer.MAX_VALUE;
+
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> segments;
+    private final Map<String, Range> index;
+
+    private SnippetStore(FileChannel channel, List<MappedByteBuffer> segments, Map<String, Range> index) {
+        this.channel = channel;
+        this.segments = segments;
+        this.index = index;
+    }
+
+    /**
+     * Extracts a store into snippet files.
+     *
+     * @param args the store file and the directory the snippets are extracted to
+     * @throws IOException if the store cannot be read or a snippet cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: SnippetStore <store file> <output directory>");
+        }
+        try (SnippetStore store = open(Path.of(args[0]))) {
+            store.extract(Path.of(args[1]));
+        }
+    }
+
+    /**
+     * Maps the store file into memory and indexes its records.
+     *
+     * @param file the store file
+     * @return the opened store
+     * @throws IOException if the file cannot be read or holds a malformed record
+     */
+    public static SnippetStore open(Path file) throws IOException {
+        return open(file, SEGMENT_SIZE);
+    }
+
+    /**
+     * Maps the store file into segments of at most the given size and indexes its records.
+     *
+     * @param file the store file
+     * @param segmentSize the maximum size of a mapped segment, larger than any record
+     * @return the opened store
+     * @throws IOException if the file cannot be read or holds a malformed record
+     */
+    static SnippetStore open(Path file, long segmentSize) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            List<MappedByteBuffer> segments = new ArrayList<>();
+            Map<String, Range> index = new LinkedHashMap<>();
+            long size = channel.size();
+            long segmentStart = 0;
+            while (segmentStart < size) {
+                long length = Math.min(segmentSize, size - segmentStart);
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, length);
+                int indexed = index(segment, segments.size(), segmentStart + length == size, index);
+                if (indexed == 0) {
+                    throw new IOException("Snippet record at offset " + segmentStart + " is larger than " + segmentSize + " bytes");
+                }
+                segments.add(segment);
+                segmentStart += indexed;
+            }
+            return new SnippetStore(channel, segments, index);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the paths of the stored snippets, in order of their first record
+     */
+    public Set<String> paths() {
+        return Collections.unmodifiableSet(index.keySet());
+    }
+
+    /**
+     * Returns the latest content of a snippet.
+     *
+     * @param path the snippet path relative to the output directory, e.g. {@code user-get/response-fields.adoc}
+     * @return the snippet content, or empty if the snippet is not stored
+     */
+    public Optional<String> get(String path) {
+        Range range = index.get(path);
+        if (range == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(read(range).content());
+    }
+
+    /**
+     * Returns the raw data the latest content of a snippet was rendered from.
+     *
+     * @param path the snippet path relative to the output directory, e.g. {@code user-get/response-fields.adoc}
+     * @return the snippet model, or empty if the snippet is not stored or was stored without its model
+     */
+    public Optional<Map<String, Object>> model(String path) {
+        Range range = index.get(path);
+        if (range == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(read(range).model());
+    }
+
+    private Snippet read(Range range) {
+        try {
+            return OBJECT_MAPPER.readValue(bytes(range), Snippet.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes every stored snippet to its file below the given directory, leaving files that
+     * already hold the same content untouched.
+     *
+     * @param directory the directory the snippet paths are resolved against
+     * @return the number of files written
+     * @throws IOException if a file cannot be written
+     */
+    public int extract(Path directory) throws IOException {
+        Path root = directory.toAbsolutePath().normalize();
+        int written = 0;
+        for (String path : index.keySet()) {
+            Path file = root.resolve(path).normalize();
+            if (!file.startsWith(root)) {
+                throw new IOException("Snippet path " + path + " is outside of " + root);
+            }
+
+            byte[] content = get(path).orElse("").getBytes(ENCODING);
+            if (Files.isRegularFile(file) && Arrays.equals(Files.readAllBytes(file), content)) {
+                continue;
+            }
+            Files.createDirectories(file.getParent());
+            Files.write(file, content);
+            written++;
+        }
+        return written;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Encodes a snippet as one NDJSON record including the line separator.
+     *
+     * @param snippet the snippet to encode
+     * @return the UTF-8 bytes of the record
+     * @throws IOException if the snippet cannot be serialized
+     */
+    static byte[] encode(Snippet snippet) throws IOException {
+        byte[] json = OBJECT_MAPPER.writeValueAsBytes(snippet);
+        byte[] record = Arrays.copyOf(json, json.length + 1);
+        record[json.length] = '\n';
+        return record;
+    }
+
+    /**
+     * Compacts a store file in place, keeping only the last record of every snippet path in the order
+     * the paths first occur. The caller must hold an exclusive lock on the file; writers appending
+     * through their own channel continue at the new end of the file.
+     *
+     * @param channel a readable and writable channel of the store file
+     * @return the number of records dropped
+     * @throws IOException if the file cannot be read or written, or holds a malformed record
+     */
+    static long compact(FileChannel channel) throws IOException {
+        Map<String, long[]> latest = new LinkedHashMap<>();
+        long records = 0;
+
+        channel.position(0);
+        // Not closed, closing the stream would close the channel
+        InputStream input = new BufferedInputStream(Channels.newInputStream(channel));
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        long start = 0;
+        long offset = 0;
+        for (int b = input.read(); b != -1; b = input.read()) {
+            offset++;
+            if (b != '\n') {
+                record.write(b);
+                continue;
+            }
+            if (record.size() > 0) {
+                latest.put(path(record.toByteArray()), new long[]{start, offset - start});
+                records++;
+            }
+            record.reset();
+            start = offset;
+        }
+        if (record.size() > 0) {
+            latest.put(path(record.toByteArray()), new long[]{start, offset - start});
+            records++;
+        }
+
+        if (latest.size() == records) {
+            return 0;
+        }
+
+        Path compacted = Files.createTempFile(SnippetStore.FILE_NAME, ".tmp");
+        try (FileChannel output = FileChannel.open(compacted, StandardOpenOption.WRITE)) {
+            for (long[] range : latest.values()) {
+                ByteBuffer bytes = ByteBuffer.allocate((int) range[1]);
+                while (bytes.hasRemaining()) {
+                    if (channel.read(bytes, range[0] + bytes.position()) < 0) {
+                        throw new IOException("Snippet store was truncated while it was compacted");
+                    }
+                }
+                if (bytes.get(bytes.limit() - 1) != '\n') {
+                    bytes = ByteBuffer.allocate(bytes.limit() + 1).put(bytes.flip()).put((byte) '\n');
+                }
+                bytes.flip();
+                while (bytes.hasRemaining()) {
+                    output.write(bytes);
+                }
+            }
+
+            long size = output.size();
+            long transferred = 0;
+            while (transferred < size) {
+                transferred += channel.transferFrom(output.position(transferred), transferred, size - transferred);
+            }
+            channel.truncate(size);
+            channel.force(false);
+        } finally {
+            Files.deleteIfExists(compacted);
+        }
+        return records - latest.size();
+    }
+
+    /**
+     * Indexes the complete records of a mapped segment.
+     *
+     * @param segment the mapped segment
+     * @param segmentIndex the position of the segment in the list of segments
+     * @param last whether the segment ends at the end of the file, so its last record may lack a line separator
+     * @param index the index to add the records to
+     * @return the number of bytes up to the end of the last complete record
+     */
+    private static int index(MappedByteBuffer segment, int segmentIndex, boolean last, Map<String, Range> index) throws IOException {
+        int start = 0;
+        int limit = segment.limit();
+        for (int position = 0; position < limit; position++) {
+            if (segment.get(position) != '\n') {
+                continue;
+            }
+            if (position > start) {
+                Range range = new Range(segmentIndex, start, position - start);
+                index.put(path(bytes(segment, range)), range);
+            }
+            start = position + 1;
+        }
+        if (last && start < limit) {
+            Range range = new Range(segmentIndex, start, limit - start);
+            index.put(path(bytes(segment, range)), range);
+            start = limit;
+        }
+        return start;
+    }
+
+    /**
+     * Reads only the {@code path} field of a record.
+     */
+    private static String path(byte[] record) throws IOException {
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(record)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Malformed snippet record: " + new String(record, ENCODING));
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("path".equals(field)) {
+                    return parser.getValueAsString();
+                }
+                parser.skipChildren();
+            }
+        }
+        throw new IOException("Snippet record without path: " + new String(record, ENCODING));
+    }
+
+    private byte[] bytes(Range range) {
+        return bytes(segments.get(range.segment()), range);
+    }
+
+    private static byte[] bytes(ByteBuffer buffer, Range range) {
+        byte[] bytes = new byte[range.length()];
+        buffer.get(range.offset(), bytes);
+        return bytes;
+    }
+
+    /**
+     * A rendered snippet as stored in one record.
+     *
+     * @param operation the documented operation, e.g. {@code user-get}
+     * @param snippet the snippet name, e.g. {@code response-fields}
+     * @param path the path of the snippet file relative to the output directory
+     * @param content the rendered snippet
+     * @param model the data the snippet was rendered from, or null if it was not recorded
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Snippet(String operation, String snippet, String path, String content, Map<String, Object> model) {
+    }
+
+    /**
+     * Location of a record in the mapped file.
+     *
+     * @param segment the index of the mapped segment holding the record
+     * @param offset the offset of the record within the segment
+     * @param length the length of the record without the line separator
+     */
+    private record Range(int segment, int offset, int length) {
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.syakuis.spring.restdocs.easy.snippet;
+
+import org.springframework.restdocs.mustache.Mustache;
+import org.springframework.restdocs.templates.Template;
+import org.springframework.restdocs.templates.TemplateEngine;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snippet {@link TemplateEngine} for "Spring REST Docs Easy" that records the model of every rendered
+ * snippet, so a {@link SnippetStoreWriterResolver} stores the raw snippet data, such as the documented
+ * field descriptors, next to the rendered content.
+ *
+ * <p>The model is converted into JSON values: maps, collections and arrays are kept, strings, numbers and
+ * booleans are stored as they are, and any other value is stored as its string representation.
+ * Mustache lambdas, which only format the output, are left out.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * MockMvcRestDocumentation.documentationConfiguration(restDocumentation)
+ *     .writerResolver(new SnippetStoreWriterResolver())
+ *     .templateEngine(new SnippetStoreTemplateEngine(PrecompiledTemplateEngine.asciidoctor()));
+ * }</pre>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ * @see SnippetStore#model(String)
+ */
+public class SnippetStoreTemplateEngine implements TemplateEngine {
+    private final TemplateEngine delegate;
+
+    /**
+     * Creates an engine recording the models of the snippets rendered by the given engine.
+     *
+     * @param delegate the engine rendering the snippets
+     */
+    public SnippetStoreTemplateEngine(TemplateEngine delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Template compileTemplate(String name) throws IOException {
+        Template template = delegate.compileTemplate(name);
+        return model -> {
+            SnippetStoreWriterResolver.RENDERED_MODEL.set(toJson(model));
+            return template.render(model);
+        };
+    }
+
+    private static Map<String, Object> toJson(Map<?, ?> map) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        map.forEach((key, value) -> {
+            if (!isLambda(value)) {
+                json.put(String.valueOf(key), toJsonValue(value));
+            }
+        });
+        return json;
+    }
+
+    private static Object toJsonValue(Object value) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Map<?, ?> map) {
+            return toJson(map);
+        }
+        if (value instanceof Iterable<?> iterable) {
+            List<Object> json = new ArrayList<>();
+            iterable.forEach(element -> json.add(toJsonValue(element)));
+            return json;
+        }
+        if (value.getClass().isArray()) {
+            List<Object> json = new ArrayList<>();
+            for (int i = 0; i < Array.getLength(value); i++) {
+                json.add(toJsonValue(Array.get(value, i)));
+            }
+            return json;
+        }
+        return value.toString();
+    }
+
+    private static boolean isLambda(Object value) {
+        return value instanceof Mustache.Lambda;
+    }
+}
@@ -0,0 +1,230 @@
+package io.github.syakuis.spring.restdocs.easy.snippet;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.snippet.PlaceholderResolverFactory;
+import org.springframework.restdocs.snippet.RestDocumentationContextPlaceholderResolverFactory;
+import org.springframework.restdocs.snippet.WriterResolver;
+import org.springframework.restdocs.templates.TemplateFormat;
+import org.springframework.restdocs.templates.TemplateFormats;
+import org.springframework.util.PropertyPlaceholderHelper;
+import org.springframework.util.PropertyPlaceholderHelper.PlaceholderResolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Snippet {@link WriterResolver} for "Spring REST Docs Easy" that appends every rendered snippet to one
+ * {@link SnippetStore} file per output directory instead of writing a file per snippet.
+ * Thousands of snippets then cost a single file on disk, avoiding the filesystem metadata overhead of
+ * many small files.
+ *
+ * <p>The store file, {@value SnippetStore#FILE_NAME}, is created in the output directory of the
+ * documentation context. Records are appended under an exclusive file lock, so test JVMs running in
+ * parallel can share the file. A snippet documented again gets a new record that supersedes the earlier
+ * one, and when the last resolver of a store file in the JVM is closed, the file is compacted to the
+ * latest record of every snippet, so repeated runs do not grow it.
+ * Snippets rendered through a {@link SnippetStoreTemplateEngine} are stored with their raw model.
+ * Asciidoctor reads the store through the include processor of the {@code spring-restdocs-easy-asciidoctor}
+ * extension, or {@link SnippetStore#extract(Path)} turns it back into snippet files.</p>
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ * @see SnippetStore
+ */
+@Slf4j
+public class SnippetStoreWriterResolver implements WriterResolver, AutoCloseable {
+    /**
+     * Store files open in this JVM; one channel per file, as file locks are held per JVM.
+     */
+    private static final Map<Path, StoreFile> STORE_FILES = new HashMap<>();
+
+    /**
+     * Model of the snippet last rendered on this thread by a {@link SnippetStoreTemplateEngine}.
+     * Spring REST Docs resolves the writer of a snippet, renders it and closes the writer on the same thread.
+     */
+    static final ThreadLocal<Map<String, Object>> RENDERED_MODEL = new ThreadLocal<>();
+
+    private final PropertyPlaceholderHelper propertyPlaceholderHelper = new PropertyPlaceholderHelper("{", "}");
+    private final PlaceholderResolverFactory placeholderResolverFactory;
+    private final TemplateFormat templateFormat;
+    private final Map<Path, StoreFile> stores = new ConcurrentHashMap<>();
+    private final LongAdder appendedCount = new LongAdder();
+
+    /**
+     * Creates a resolver storing Asciidoctor snippets, the Spring REST Docs default format.
+     */
+    public SnippetStoreWriterResolver() {
+        this(new RestDocumentationContextPlaceholderResolverFactory(), TemplateFormats.asciidoctor());
+    }
+
+    /**
+     * Creates a resolver with the given placeholder resolution and snippet format.
+     *
+     * @param placeholderResolverFactory the factory of the resolvers of path placeholders
+     * @param templateFormat the format whose file extension the snippet paths get
+     */
+    public SnippetStoreWriterResolver(PlaceholderResolverFactory placeholderResolverFactory, TemplateFormat templateFormat) {
+        this.placeholderResolverFactory = placeholderResolverFactory;
+        this.templateFormat = templateFormat;
+    }
+
+    @Override
+    public Writer resolve(String operationName, String snippetName, RestDocumentationContext context) throws IOException {
+        PlaceholderResolver placeholderResolver = placeholderResolverFactory.create(context);
+        String operation = propertyPlaceholderHelper.replacePlaceholders(operationName, placeholderResolver);
+        String snippet = propertyPlaceholderHelper.replacePlaceholders(snippetName, placeholderResolver);
+
+        File outputDirectory = context.getOutputDirectory();
+        if (outputDirectory == null) {
+            return new OutputStreamWriter(System.out, SnippetStore.ENCODING);
+        }
+
+        String path = operation + "/" + snippet + "." + templateFormat.getFileExtension();
+        return new StoreWriter(outputDirectory.toPath().resolve(SnippetStore.FILE_NAME), new SnippetStore.Snippet(operation, snippet, path, null, null));
+    }
+
+    /**
+     * @return the number of snippets appended so far
+     */
+    public long appendedCount() {
+        return appendedCount.sum();
+    }
+
+    /**
+     * Releases the store files, compacting and closing those no other resolver uses, and logs the
+     * number of appended snippets.
+     *
+     * @throws IOException if a store file cannot be compacted or closed
+     */
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (StoreFile store : stores.values()) {
+            try {
+                release(store);
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        stores.clear();
+        log.info("REST Docs snippets appended to snippet stores: {}", appendedCount());
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Appends a record at the end of the file while holding the file lock, so records of concurrent
+     * writers do not interleave and no record is appended while the file is compacted.
+     */
+    private void append(Path file, SnippetStore.Snippet snippet) throws IOException {
+        StoreFile store;
+        try {
+            store = stores.computeIfAbsent(file.toAbsolutePath().normalize(), SnippetStoreWriterResolver::acquire);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        ByteBuffer record = ByteBuffer.wrap(SnippetStore.encode(snippet));
+        synchronized (store) {
+            FileChannel channel = store.channel;
+            try (FileLock ignored = channel.lock()) {
+                long position = channel.size();
+                while (record.hasRemaining()) {
+                    position += channel.write(record, position);
+                }
+            }
+        }
+        appendedCount.increment();
+    }
+
+    private static StoreFile acquire(Path file) {
+        synchronized (STORE_FILES) {
+            StoreFile store = STORE_FILES.get(file);
+            if (store == null) {
+                try {
+                    Files.createDirectories(file.getParent());
+                    store = new StoreFile(file, FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                STORE_FILES.put(file, store);
+            }
+            store.references++;
+            return store;
+        }
+    }
+
+    private static void release(StoreFile store) throws IOException {
+        synchronized (STORE_FILES) {
+            if (--store.references > 0) {
+                return;
+            }
+            STORE_FILES.remove(store.file);
+        }
+
+        synchronized (store) {
+            try (FileChannel channel = store.channel; FileLock ignored = channel.lock()) {
+                long dropped = SnippetStore.compact(channel);
+                if (dropped > 0) {
+                    log.debug("REST Docs snippet store {} compacted, superseded records dropped: {}", store.file, dropped);
+                }
+            }
+        }
+    }
+
+    /**
+     * A store file shared by the resolvers of this JVM.
+     */
+    private static class StoreFile {
+        private final Path file;
+        private final FileChannel channel;
+        private int references;
+
+        StoreFile(Path file, FileChannel channel) {
+            this.file = file;
+            this.channel = channel;
+        }
+    }
+
+    /**
+     * In-memory writer of one snippet, appended to the store on close.
+     */
+    private class StoreWriter extends StringWriter {
+        private final Path file;
+        private final SnippetStore.Snippet snippet;
+        private boolean closed;
+
+        StoreWriter(Path file, SnippetStore.Snippet snippet) {
+            this.file = file;
+            this.snippet = snippet;
+            RENDERED_MODEL.remove();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                Map<String, Object> model = RENDERED_MODEL.get();
+                RENDERED_MODEL.remove();
+                append(file, new SnippetStore.Snippet(snippet.operation(), snippet.snippet(), snippet.path(), toString(), model));
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.syakuis.spring.restdocs.easy.configuration;
+
+import io.github.syakuis.spring.restdocs.easy.generate.RestDocs;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+class DescriptorWarmupTest {
+    @Test
+    void shouldPrepareClassesOfPackages() throws Exception {
+        RestDocs restDocs = RestDocs.builder().build();
+
+        DescriptorWarmup warmup = new DescriptorWarmup(restDocs, List.of(Dto.class.getPackageName()), getClass().getClassLoader());
+        DescriptorWarmup.Report report = warmup.report().get(1, TimeUnit.MINUTES);
+
+        assertTrue(report.classes() > 0);
+        assertTrue(report.fields() >= Dto.class.getRecordComponents().length);
+        assertFalse(report.elapsed().isNegative());
+    }
+
+    @Test
+    void shouldSkipWithoutPackages() {
+        DescriptorWarmup warmup = new DescriptorWarmup(RestDocs.builder().build(), List.of(), getClass().getClassLoader());
+
+        assertEquals(new DescriptorWarmup.Report(0, 0, Duration.ZERO), warmup.report().join());
+    }
+
+    record Dto(String name, int age) {
+    }
+}
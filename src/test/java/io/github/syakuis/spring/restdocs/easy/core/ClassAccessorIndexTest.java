@@ -0,0 +1,86 @@
+package io.github.syakuis.spring.restdocs.easy.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+class ClassAccessorIndexTest {
+
+    @Test
+    void shouldResolveFluentStandardAndBooleanAccessors() {
+        ClassAccessorIndex index = ClassAccessorIndex.of(Account.class);
+
+        assertTrue(index.hasAccessor("name", String.class));
+        assertTrue(index.hasAccessor("email", String.class));
+        assertTrue(index.hasAccessor("active", boolean.class));
+    }
+
+    @Test
+    void shouldRejectMissingOrMismatchedAccessors() {
+        ClassAccessorIndex index = ClassAccessorIndex.of(Account.class);
+
+        assertFalse(index.hasAccessor("password", String.class));
+        assertFalse(index.hasAccessor("email", Integer.class));
+        assertFalse(index.hasAccessor("", String.class));
+    }
+
+    @Test
+    void shouldResolveRecordComponentsOnly() {
+        ClassAccessorIndex index = ClassAccessorIndex.of(Point.class);
+
+        assertTrue(index.hasAccessor("x", int.class));
+        assertFalse(index.hasAccessor("label", String.class));
+    }
+
+    @Test
+    void shouldKeepMostSpecificCovariantReturnType() {
+        ClassAccessorIndex index = ClassAccessorIndex.of(NarrowedValue.class);
+
+        assertTrue(index.hasAccessor("value", String.class));
+    }
+
+    static class Account {
+        private String name;
+        private String email;
+        private boolean active;
+        private String password;
+
+        public String name() {
+            return name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+
+    record Point(int x, int y) {
+        static final String LABEL = "point";
+
+        public String getLabel() {
+            return LABEL;
+        }
+    }
+
+    interface ValueHolder {
+        CharSequence getValue();
+    }
+
+    static class NarrowedValue implements ValueHolder {
+        private String value;
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+    }
+}
@@ -8,8 +8,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -66,10 +72,107 @@ class ClassMetadataGeneratorTest {
         assertTrue(hasNotNullAnnotation, "Username field should have @NotNull annotation");
     }
 
+    @Test
+    void shouldReturnCachedMetadataForSameClass() {
+        CacheStatistics before = ClassMetadataGenerator.statistics();
+
+        List<ClassFieldMetadata> first = ClassMetadataGenerator.of(CachedAddress.class).toList();
+        List<ClassFieldMetadata> second = ClassMetadataGenerator.of(CachedAddress.class).toList();
+
+        CacheStatistics after = ClassMetadataGenerator.statistics();
+
+        assertSame(first, second);
+        assertEquals(2, after.requestCount() - before.requestCount());
+        assertTrue(after.hitCount() - before.hitCount() >= 1);
+        assertThrows(UnsupportedOperationException.class, () -> first.add(first.get(0)));
+    }
+
+    @Test
+    void shouldGenerateSameMetadataFromManyThreads() throws Exception {
+        List<ClassFieldMetadata> expected = ClassMetadataGenerator.of(User.class).toList();
+
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            List<Future<List<ClassFieldMetadata>>> futures = executor.invokeAll(
+                Collections.nCopies(64, () -> ClassMetadataGenerator.of(User.class).toList()));
+
+            for (Future<List<ClassFieldMetadata>> future : futures) {
+                assertSame(expected, future.get());
+            }
+        }
+    }
+
+    @Test
+    void shouldUseFieldTableGeneratedAtCompileTime() {
+        List<String> fieldNames = ClassMetadataGenerator.of(Pregenerated.class).toList().stream()
+            .map(ClassFieldMetadata::name)
+            .toList();
+
+        // "hidden" has no getter, so it can only come from the generated table
+        assertEquals(List.of("code", "hidden"), fieldNames);
+    }
+
+    @Test
+    void shouldReadAnnotationsOfAnnotatedFieldsInGeneratedTable() {
+        Map<String, ClassFieldMetadata> metadata = ClassMetadataGenerator.of(Pregenerated.class).toList().stream()
+            .collect(Collectors.toMap(ClassFieldMetadata::name, Function.identity()));
+
+        assertEquals(1, metadata.get("code").annotations().length);
+        assertEquals(0, metadata.get("hidden").annotations().length);
+    }
+
+    @Test
+    void shouldResolveGenericElementTypes() {
+        Map<String, ClassFieldMetadata> metadata = ClassMetadataGenerator.of(GenericAddresses.class).toList().stream()
+            .collect(Collectors.toMap(ClassFieldMetadata::name, Function.identity()));
+
+        assertEquals(CachedAddress.class, metadata.get("list").elementType());
+        assertEquals(CachedAddress.class, metadata.get("byName").elementType());
+        assertEquals(CachedAddress.class, metadata.get("array").elementType());
+        assertNull(metadata.get("single").elementType());
+        assertEquals(CachedAddress.class, metadata.get("single").resolvedType());
+        assertSame(metadata.get("list"), ClassMetadataGenerator.of(GenericAddresses.class).toList().get(0));
+    }
+
+    @Test
+    void shouldMergeSuperclassFieldsInHierarchyList() {
+        List<ClassFieldMetadata> metadata = ClassMetadataGenerator.of(AddressPage.class).toHierarchyList();
+
+        assertEquals(List.of("createdBy", "content", "size", "title"), metadata.stream().map(ClassFieldMetadata::name).toList());
+        assertEquals(List.of("title"), ClassMetadataGenerator.of(AddressPage.class).toList().stream().map(ClassFieldMetadata::name).toList());
+
+        // "size" is shadowed by the subclass, "createdBy" keeps its declaring class
+        assertEquals(AddressPage.class, metadata.get(2).target());
+        assertEquals(Auditable.class, metadata.get(0).target());
+        assertEquals(CachedAddress.class, metadata.get(1).elementType());
+
+        // levels are cached independently and shared with other subclasses
+        assertSame(ClassMetadataGenerator.of(Auditable.class).toList().get(0), metadata.get(0));
+    }
+
     enum Sex {
         MALE, FEMALE
     }
 
+    @Getter
+    static class Auditable {
+        private String createdBy;
+    }
+
+    @Getter
+    static class Page<T> extends Auditable {
+        private List<T> content;
+        private int size;
+    }
+
+    @Getter
+    static class AddressPage extends Page<CachedAddress> {
+        private int size;
+        private String title;
+    }
+
+    record GenericAddresses(List<CachedAddress> list, Map<String, CachedAddress> byName, CachedAddress[] array, CachedAddress single) {
+    }
+
     @AllArgsConstructor(access = AccessLevel.PRIVATE)
     @Builder
     @Getter
@@ -97,6 +200,24 @@ class ClassMetadataGeneratorTest {
         }
     }
 
+    record CachedAddress(String street, String city) {
+    }
+
+    static class Pregenerated {
+        @NotNull
+        private String code;
+        private String hidden;
+        private String ignored;
+
+        public String getCode() {
+            return code;
+        }
+
+        public String getIgnored() {
+            return ignored;
+        }
+    }
+
     @NoArgsConstructor
     @AllArgsConstructor
     @Getter
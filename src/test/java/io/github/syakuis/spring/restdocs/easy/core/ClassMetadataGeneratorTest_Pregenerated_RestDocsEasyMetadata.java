@@ -0,0 +1,23 @@
+package io.github.syakuis.spring.restdocs.easy.core;
+
+import java.util.List;
+
+/**
+ * Stands in for the table {@code RestDocsEasyMetadataProcessor} generates for
+ * {@link ClassMetadataGeneratorTest.Pregenerated}.
+ *
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+public final class ClassMetadataGeneratorTest_Pregenerated_RestDocsEasyMetadata {
+    private ClassMetadataGeneratorTest_Pregenerated_RestDocsEasyMetadata() {
+    }
+
+    public static List<String> fields() {
+        return List.of("code", "hidden");
+    }
+
+    public static List<String> annotatedFields() {
+        return List.of("code");
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.syakuis.spring.restdocs.easy.core;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+class JacksonMetadataGeneratorTest {
+    @Test
+    void shouldFollowJsonPropertyAndJsonIgnore() {
+        JacksonMetadataGenerator generator = new JacksonMetadataGenerator(new ObjectMapper());
+
+        List<ClassFieldMetadata> metadata = generator.toList(Member.class);
+
+        assertEquals(Set.of("id", "user_name", "zipcode", "city"), Set.copyOf(names(metadata)));
+
+        ClassFieldMetadata userName = metadata.stream().filter(it -> it.name().equals("user_name")).findFirst().orElseThrow();
+        assertEquals("username", userName.propertyName());
+        assertEquals(String.class, userName.type());
+        assertNotNull(userName.field());
+        assertSame(generator.toList(Member.class), metadata);
+    }
+
+    @Test
+    void shouldPrefixUnwrappedProperties() {
+        JacksonMetadataGenerator generator = new JacksonMetadataGenerator(new ObjectMapper());
+
+        List<ClassFieldMetadata> metadata = generator.toList(Shipment.class);
+
+        assertEquals(List.of("id", "to_zipcode", "to_city"), names(metadata));
+        assertEquals(Address.class, metadata.get(1).target());
+        assertEquals("zipcode", metadata.get(1).propertyName());
+    }
+
+    @Test
+    void shouldApplyNamingStrategy() {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+
+        List<ClassFieldMetadata> metadata = new JacksonMetadataGenerator(objectMapper).toList(Account.class);
+
+        assertEquals(List.of("account_id", "display_name"), names(metadata));
+        assertEquals(List.of("accountId", "displayName"), metadata.stream().map(ClassFieldMetadata::propertyName).toList());
+    }
+
+    @Test
+    void shouldDocumentOnlyPropertiesOfTheActiveView() {
+        ObjectMapper objectMapper = JsonMapper.builder()
+            .disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+            .build();
+        JacksonMetadataGenerator generator = new JacksonMetadataGenerator(objectMapper);
+
+        assertEquals(List.of("id", "name", "email"), names(generator.toList(Profile.class)));
+        assertEquals(List.of("name"), names(generator.toList(Profile.class, Views.Public.class)));
+        assertEquals(List.of("name", "email"), names(generator.toList(Profile.class, Views.Internal.class)));
+    }
+
+    private static List<String> names(List<ClassFieldMetadata> metadata) {
+        return metadata.stream().map(ClassFieldMetadata::name).toList();
+    }
+
+    @Getter
+    static class Address {
+        private String zipcode;
+        private String city;
+    }
+
+    @Getter
+    static class Member {
+        private Long id;
+
+        @JsonProperty("user_name")
+        private String username;
+
+        @JsonIgnore
+        private String password;
+
+        @JsonUnwrapped
+        private Address address;
+    }
+
+    @Getter
+    static class Shipment {
+        private Long id;
+
+        @JsonUnwrapped(prefix = "to_")
+        private Address address;
+    }
+
+    @Getter
+    static class Account {
+        private Long accountId;
+        private String displayName;
+    }
+
+    static class Views {
+        interface Public {
+        }
+
+        interface Internal extends Public {
+        }
+    }
+
+    @Getter
+    static class Profile {
+        private Long id;
+
+        @JsonView(Views.Public.class)
+        private String name;
+
+        @JsonView(Views.Internal.class)
+        private String email;
+    }
+}
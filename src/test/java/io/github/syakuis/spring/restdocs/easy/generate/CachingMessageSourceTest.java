@@ -0,0 +1,110 @@
+package io.github.syakuis.spring.restdocs.easy.generate;
+
+import io.github.syakuis.spring.restdocs.easy.core.CacheStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+class CachingMessageSourceTest {
+
+    private StaticMessageSource staticMessageSource;
+
+    @BeforeEach
+    void setUp() {
+        staticMessageSource = new StaticMessageSource();
+        staticMessageSource.addMessage("member.name", Locale.KOREA, "이름");
+        staticMessageSource.addMessage("member.name", Locale.ENGLISH, "Name");
+        staticMessageSource.addMessage("member.greeting", Locale.ENGLISH, "Hello {0}");
+    }
+
+    @Test
+    void shouldCacheResolvedMessagesPerCodeAndLocale() {
+        var cachingMessageSource = new CachingMessageSource(staticMessageSource);
+
+        assertEquals("이름", cachingMessageSource.getMessage("member.name", null, "name", Locale.KOREA));
+        assertEquals("Name", cachingMessageSource.getMessage("member.name", null, "name", Locale.ENGLISH));
+
+        staticMessageSource.addMessage("member.name", Locale.KOREA, "회원 이름");
+        assertEquals("이름", cachingMessageSource.getMessage("member.name", null, Locale.KOREA));
+
+        assertEquals(new CacheStatistics(1, 2), cachingMessageSource.statistics());
+    }
+
+    @Test
+    void shouldCacheNegativeLookups() {
+        var cachingMessageSource = new CachingMessageSource(staticMessageSource);
+
+        assertEquals("first", cachingMessageSource.getMessage("member.unknown", null, "first", Locale.KOREA));
+        assertEquals("second", cachingMessageSource.getMessage("member.unknown", null, "second", Locale.KOREA));
+        assertNull(cachingMessageSource.getMessage("member.unknown", null, null, Locale.KOREA));
+        assertThrows(NoSuchMessageException.class,
+            () -> cachingMessageSource.getMessage("member.unknown", null, Locale.KOREA));
+
+        assertEquals(new CacheStatistics(3, 1), cachingMessageSource.statistics());
+    }
+
+    @Test
+    void shouldPassLookupsWithArgumentsToDelegate() {
+        var cachingMessageSource = new CachingMessageSource(staticMessageSource);
+
+        assertEquals("Hello Choi", cachingMessageSource.getMessage("member.greeting", new Object[] {"Choi"}, Locale.ENGLISH));
+        assertEquals(0, cachingMessageSource.statistics().requestCount());
+    }
+
+    @Test
+    void shouldNotCacheWithZeroDuration() {
+        var cachingMessageSource = new CachingMessageSource(staticMessageSource, Duration.ZERO);
+
+        assertEquals("이름", cachingMessageSource.getMessage("member.name", null, Locale.KOREA));
+        staticMessageSource.addMessage("member.name", Locale.KOREA, "회원 이름");
+        assertEquals("회원 이름", cachingMessageSource.getMessage("member.name", null, Locale.KOREA));
+    }
+
+    @Test
+    void shouldExpireMessagesWhenDurationElapses() throws InterruptedException {
+        var cachingMessageSource = new CachingMessageSource(staticMessageSource, Duration.ofMillis(20));
+        long generation = cachingMessageSource.generation();
+
+        assertEquals("이름", cachingMessageSource.getMessage("member.name", null, Locale.KOREA));
+        staticMessageSource.addMessage("member.name", Locale.KOREA, "회원 이름");
+
+        Thread.sleep(40);
+
+        assertEquals("회원 이름", cachingMessageSource.getMessage("member.name", null, Locale.KOREA));
+        assertTrue(cachingMessageSource.generation() > generation);
+    }
+
+    @Test
+    void shouldDropMessagesOnClearCache() {
+        var cachingMessageSource = new CachingMessageSource(staticMessageSource);
+        long generation = cachingMessageSource.generation();
+
+        assertEquals("이름", cachingMessageSource.getMessage("member.name", null, Locale.KOREA));
+        staticMessageSource.addMessage("member.name", Locale.KOREA, "회원 이름");
+        cachingMessageSource.clearCache();
+
+        assertEquals("회원 이름", cachingMessageSource.getMessage("member.name", null, Locale.KOREA));
+        assertEquals(generation + 1, cachingMessageSource.generation());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedMessagesBeyondCapacity() {
+        var cachingMessageSource = new CachingMessageSource(staticMessageSource, null, 1);
+
+        cachingMessageSource.getMessage("member.name", null, Locale.KOREA);
+        cachingMessageSource.getMessage("member.name", null, Locale.ENGLISH);
+        cachingMessageSource.getMessage("member.name", null, Locale.KOREA);
+
+        assertEquals(new CacheStatistics(0, 3), cachingMessageSource.statistics());
+    }
+}
@@ -8,11 +8,13 @@ import org.springframework.boot.autoconfigure.context.MessageSourceAutoConfigura
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Import;
+import org.springframework.context.support.StaticMessageSource;
 import org.springframework.restdocs.payload.JsonFieldType;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -142,6 +144,147 @@ class ClassDescriptorGeneratorTest {
         });
     }
 
+    @Test
+    void testMemoizedDescriptorsAreNotCorruptedByCallers() {
+        var generator = new ClassDescriptorGenerator(messageSource, jsonFieldTypeMapper);
+
+        List<Descriptor> first = generator.generate(SampleWithNotNull.class);
+        Descriptor changed = first.get(0).withOptional(true).withIgnore(true).withDescription("changed");
+
+        List<Descriptor> second = generator.generate(SampleWithNotNull.class);
+
+        assertNotSame(changed, second.get(0));
+        assertSame(first.get(0), second.get(0));
+        assertFalse(second.get(0).optional());
+        assertFalse(second.get(0).ignore());
+        assertEquals("notNullField", second.get(0).description());
+    }
+
+    @Test
+    void testMemoizedDescriptorsApplyPrefixPerCall() {
+        var generator = new ClassDescriptorGenerator(messageSource, jsonFieldTypeMapper);
+
+        List<Descriptor> plain = generator.generate(SampleWithSize.class);
+        List<Descriptor> prefixed = generator.generate("[].", SampleWithSize.class);
+
+        assertNull(plain.get(0).prefix());
+        assertEquals("[].", prefixed.get(0).prefix());
+        assertEquals(plain.get(0).name(), prefixed.get(0).name());
+        assertSame(plain, generator.generate(SampleWithSize.class));
+        assertSame(prefixed, generator.generate("[].", SampleWithSize.class));
+    }
+
+    @Test
+    void testMemoizedDescriptorsIgnoreValidationGroupOrder() {
+        var generator = new ClassDescriptorGenerator(messageSource, jsonFieldTypeMapper);
+
+        List<Descriptor> forward = generator.generate(SampleWithGroups.class, Create.class, Update.class);
+        List<Descriptor> reverse = generator.generate(SampleWithGroups.class, Update.class, Create.class);
+        List<Descriptor> none = generator.generate(SampleWithGroups.class);
+
+        assertEquals(forward, reverse);
+        assertFalse(forward.get(0).optional());
+        assertTrue(none.get(0).optional());
+    }
+
+    @Test
+    void testMemoizedDescriptorsAreRebuiltAfterMessageReload() {
+        var staticMessageSource = new StaticMessageSource();
+        staticMessageSource.addMessage(Sample.class.getName() + ".name", Locale.getDefault(), "before");
+        var cachingMessageSource = new CachingMessageSource(staticMessageSource);
+        var generator = new ClassDescriptorGenerator(cachingMessageSource, jsonFieldTypeMapper);
+
+        assertEquals("before", generator.generate(Sample.class).get(0).description());
+
+        staticMessageSource.addMessage(Sample.class.getName() + ".name", Locale.getDefault(), "after");
+        assertEquals("before", generator.generate(Sample.class).get(0).description());
+
+        cachingMessageSource.clearCache();
+        assertEquals("after", generator.generate(Sample.class).get(0).description());
+    }
+
+    @Test
+    void testMemoizedDescriptorsFollowDefaultLocale() {
+        var staticMessageSource = new StaticMessageSource();
+        staticMessageSource.addMessage(Sample.class.getName() + ".name", Locale.KOREAN, "이름");
+        staticMessageSource.addMessage(Sample.class.getName() + ".name", Locale.ENGLISH, "name");
+        var generator = new ClassDescriptorGenerator(staticMessageSource, jsonFieldTypeMapper);
+
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.KOREAN);
+            assertEquals("이름", generator.generate(Sample.class).get(0).description());
+            assertEquals("이름", generator.generateRecursive(null, Sample.class).get(0).description());
+
+            Locale.setDefault(Locale.ENGLISH);
+            assertEquals("name", generator.generate(Sample.class).get(0).description());
+            assertEquals("name", generator.generateRecursive(null, Sample.class).get(0).description());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void testGenerateRecursive() {
+        var generator = new ClassDescriptorGenerator(messageSource, jsonFieldTypeMapper);
+
+        List<String> paths = generator.generateRecursive("data.", Order.class, 3).stream()
+            .map(descriptor -> descriptor.prefix() + descriptor.name())
+            .toList();
+
+        assertEquals(List.of(
+            "data.id",
+            "data.address", "data.address.city",
+            "data.items", "data.items[].name", "data.items[].address", "data.items[].address.city",
+            "data.addresses", "data.addresses.*.city"
+        ), paths);
+        assertEquals(JsonFieldType.ARRAY, generator.generateRecursive(null, Order.class, 3).get(3).type());
+    }
+
+    @Test
+    void testGenerateRecursiveIsRebuiltAfterMessageReload() {
+        var staticMessageSource = new StaticMessageSource();
+        staticMessageSource.addMessage(Address.class.getName() + ".city", Locale.getDefault(), "before");
+        var cachingMessageSource = new CachingMessageSource(staticMessageSource);
+        var generator = new ClassDescriptorGenerator(cachingMessageSource, jsonFieldTypeMapper);
+
+        assertEquals("before", generator.generateRecursive(null, Order.class, 3).get(2).description());
+
+        staticMessageSource.addMessage(Address.class.getName() + ".city", Locale.getDefault(), "after");
+        cachingMessageSource.clearCache();
+
+        List<Descriptor> descriptors = generator.generateRecursive(null, Order.class, 3);
+        assertEquals("address.", descriptors.get(2).prefix());
+        assertEquals("after", descriptors.get(2).description());
+    }
+
+    @Test
+    void testGenerateRecursiveStopsAtCyclesAndDepth() {
+        var generator = new ClassDescriptorGenerator(messageSource, jsonFieldTypeMapper);
+
+        List<String> cyclic = generator.generateRecursive(null, Category.class).stream()
+            .map(descriptor -> (descriptor.prefix() != null ? descriptor.prefix() : "") + descriptor.name())
+            .toList();
+        assertEquals(List.of("name", "parent", "children"), cyclic);
+
+        List<String> shallow = generator.generateRecursive(null, Order.class, 0).stream()
+            .map(Descriptor::name)
+            .toList();
+        assertEquals(List.of("id", "address", "items", "addresses"), shallow);
+    }
+
+    record Address(String city) {
+    }
+
+    record Item(String name, Address address) {
+    }
+
+    record Order(Long id, Address address, List<Item> items, java.util.Map<String, Address> addresses) {
+    }
+
+    record Category(String name, Category parent, List<Category> children) {
+    }
+
     // Sample record class for testing
     record Sample(String name) {
     }
@@ -169,6 +312,18 @@ class ClassDescriptorGeneratorTest {
     ) {
     }
 
+    interface Create {
+    }
+
+    interface Update {
+    }
+
+    // Sample class with a grouped NotNull constraint
+    record SampleWithGroups(
+        @NotNull(groups = Update.class) String groupedField
+    ) {
+    }
+
     // Sample class with a Size constraint
     record SampleWithSize(
         @Size(min = 2, max = 10) String sizeField
@@ -0,0 +1,45 @@
+package io.github.syakuis.spring.restdocs.easy.generate;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.Test;
+import org.springframework.restdocs.snippet.Attributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+class ClassFieldConstraintDescriptionsTest {
+
+    @Test
+    void shouldDescribeAllConstraintsOfField() {
+        Attributes.Attribute[] attributes = new ClassFieldConstraintDescriptions(Sample.class).getConstraints("name");
+
+        assertEquals(1, attributes.length);
+        assertEquals("constraints", attributes[0].getKey());
+        assertEquals("Must not be null\n\nSize must be between 2 and 10 inclusive", attributes[0].getValue());
+    }
+
+    @Test
+    void shouldShareResolvedConstraintsBetweenInstances() {
+        Attributes.Attribute[] first = new ClassFieldConstraintDescriptions(Sample.class).getConstraints("name");
+        Attributes.Attribute[] second = new ClassFieldConstraintDescriptions(Sample.class).getConstraints("name");
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void shouldDescribeFieldWithoutConstraintsAsEmpty() {
+        Attributes.Attribute[] attributes = new ClassFieldConstraintDescriptions(Sample.class).getConstraints("nickname");
+
+        assertEquals("", attributes[0].getValue());
+    }
+
+    record Sample(
+        @NotNull @Size(min = 2, max = 10) String name,
+        String nickname
+    ) {
+    }
+}
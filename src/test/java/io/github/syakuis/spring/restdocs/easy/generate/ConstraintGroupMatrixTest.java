@@ -0,0 +1,92 @@
+package io.github.syakuis.spring.restdocs.easy.generate;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+class ConstraintGroupMatrixTest {
+
+    interface Create {}
+    interface Update {}
+    interface Patch {}
+
+    static class MemberRequest {
+        @NotBlank
+        private String name;
+
+        @NotNull(groups = Create.class)
+        @Email(groups = {Create.class, Update.class})
+        private String email;
+
+        @Size(max = 100, groups = Patch.class)
+        private String nickname;
+
+        private String memo;
+    }
+
+    @Test
+    void shouldIndexReferencedGroupsInOrderOfAppearance() {
+        ConstraintGroupMatrix matrix = ConstraintGroupMatrix.of(MemberRequest.class);
+
+        assertThat(matrix.targetClass()).isEqualTo(MemberRequest.class);
+        assertThat(matrix.groups()).containsExactly(Create.class, Update.class, Patch.class);
+    }
+
+    @Test
+    void shouldReturnSameMatrixForSameClass() {
+        assertThat(ConstraintGroupMatrix.of(MemberRequest.class)).isSameAs(ConstraintGroupMatrix.of(MemberRequest.class));
+    }
+
+    @Test
+    void shouldExposeGroupCoveragePerField() {
+        ConstraintGroupMatrix matrix = ConstraintGroupMatrix.of(MemberRequest.class);
+
+        assertThat(matrix.fields()).extracting(ConstraintGroupMatrix.FieldGroups::fieldName)
+            .containsExactly("name", "email", "nickname", "memo");
+
+        assertThat(matrix.field("name")).hasValue(
+            new ConstraintGroupMatrix.FieldGroups("name", true, true, Set.of(), Set.of()));
+        assertThat(matrix.field("email")).hasValue(
+            new ConstraintGroupMatrix.FieldGroups("email", false, false, Set.of(Create.class), Set.of(Create.class, Update.class)));
+        assertThat(matrix.field("nickname")).hasValue(
+            new ConstraintGroupMatrix.FieldGroups("nickname", false, false, Set.of(), Set.of(Patch.class)));
+        assertThat(matrix.field("memo")).hasValue(
+            new ConstraintGroupMatrix.FieldGroups("memo", false, false, Set.of(), Set.of()));
+        assertThat(matrix.field("unknown")).isEmpty();
+    }
+
+    @Test
+    void shouldAnswerChecksForAnyGroupCombination() {
+        ConstraintGroupMatrix matrix = ConstraintGroupMatrix.of(MemberRequest.class);
+
+        assertThat(matrix.isMandatory("name", List.of())).isTrue();
+        assertThat(matrix.isMandatory("email", List.of())).isFalse();
+        assertThat(matrix.isMandatory("email", List.of(Create.class))).isTrue();
+        assertThat(matrix.isMandatory("email", List.of(Update.class, Patch.class))).isFalse();
+
+        assertThat(matrix.hasConstraint("email", List.of(Update.class))).isTrue();
+        assertThat(matrix.hasConstraint("nickname", List.of(Create.class, Update.class))).isFalse();
+        assertThat(matrix.hasConstraint("nickname", List.of(Patch.class))).isTrue();
+        assertThat(matrix.hasConstraint("memo", List.of(Create.class, Update.class, Patch.class))).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreGroupsNotReferencedByClass() {
+        ConstraintGroupMatrix matrix = ConstraintGroupMatrix.of(MemberRequest.class);
+
+        assertThat(matrix.groupMask(List.of(Runnable.class)).isEmpty()).isTrue();
+        assertThat(matrix.isMandatory("email", List.of(Runnable.class))).isFalse();
+        assertThat(matrix.isMandatory("unknown", List.of(Create.class))).isFalse();
+    }
+}
@@ -5,11 +5,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.restdocs.payload.FieldDescriptor;
 import org.springframework.restdocs.payload.JsonFieldType;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -95,4 +105,59 @@ class DefaultRestDocsBuilderTest {
         assertNotNull(restDocs);
         assertInstanceOf(DefaultRestDocs.class, restDocs);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testBuildWithMessageCache() {
+        // Given
+        StaticMessageSource staticMessageSource = new StaticMessageSource();
+        staticMessageSource.addMessage(Member.class.getName() + ".name", Locale.getDefault(), "member name");
+
+        // When
+        RestDocs restDocs = new DefaultRestDocsBuilder()
+            .messageSource(staticMessageSource)
+            .messageCacheDuration(Duration.ofMinutes(1))
+            .build();
+        restDocs.generate(Member.class);
+        restDocs.generate(Member.class, Runnable.class);
+
+        // Then
+        assertEquals(1, restDocs.messageCacheStatistics().missCount());
+        assertEquals(1, restDocs.messageCacheStatistics().hitCount());
+    }
+
+    @Test
+    void testConcurrentGeneration() throws Exception {
+        // Given
+        StaticMessageSource staticMessageSource = new StaticMessageSource();
+        staticMessageSource.addMessage(Member.class.getName() + ".name", Locale.getDefault(), "member name");
+        RestDocs restDocs = new DefaultRestDocsBuilder()
+            .messageSource(staticMessageSource)
+            .build();
+        RestDocs reference = new DefaultRestDocsBuilder().messageSource(staticMessageSource).build();
+        List<String> orderPaths = reference.generateRecursive("body.", Order.class, 3).exclude("body.id").toField().stream()
+            .map(FieldDescriptor::getPath).toList();
+
+        // When
+        List<Callable<List<FieldDescriptor>>> tasks = new ArrayList<>();
+        for (int i = 0; i < 256; i++) {
+            Class<?> type = i % 2 == 0 ? Order.class : Member.class;
+            tasks.add(() -> restDocs.generateRecursive("body.", type, 3).exclude("body.id").toField());
+        }
+        List<Future<List<FieldDescriptor>>> futures;
+        try (var executor = Executors.newFixedThreadPool(16)) {
+            futures = executor.invokeAll(tasks);
+        }
+
+        // Then
+        for (int i = 0; i < futures.size(); i++) {
+            List<String> paths = futures.get(i).get().stream().map(FieldDescriptor::getPath).toList();
+            assertEquals(i % 2 == 0 ? orderPaths : List.of("body.name"), paths);
+        }
+    }
+
+    record Member(String name) {
+    }
+
+    record Order(Long id, Member member, List<Member> members) {
+    }
+}
@@ -76,6 +76,34 @@ class DefaultRestDocsTest {
         assertFalse(headers.isEmpty());
     }
 
+    @Test
+    void testDefaultOperatorIsReusable() {
+        RestDocs.Operator template = defaultRestDocs.generate(TestClass.class).optional("field1");
+
+        RestDocs.Operator excluded = template.exclude("field3");
+        RestDocs.Operator ignored = template.ignore("field2");
+
+        assertEquals(3, template.toField().size());
+        assertEquals(3, template.toList().size());
+        assertEquals(2, excluded.toField().size());
+        assertTrue(ignored.toField().stream().anyMatch(fd -> fd.getPath().equals("field2") && fd.isIgnored()));
+        assertTrue(template.toField().stream().noneMatch(FieldDescriptor::isIgnored));
+        assertTrue(template.toField().stream().anyMatch(fd -> fd.getPath().equals("field1") && fd.isOptional()));
+    }
+
+    @Test
+    void testDefaultOperatorEditLeavesOriginalUnchanged() {
+        RestDocs.Operator operator = defaultRestDocs.generate(TestClass.class);
+
+        RestDocs.Operator required = operator.require("field1");
+        operator.exclude("field3");
+
+        assertNotSame(operator, required);
+        assertEquals(3, operator.toField().size());
+        assertTrue(operator.toField().stream().anyMatch(fd -> fd.getPath().equals("field1") && fd.isOptional()));
+        assertTrue(required.toField().stream().anyMatch(fd -> fd.getPath().equals("field1") && !fd.isOptional()));
+    }
+
     // 테스트용 더미 클래스
     @Getter
     static class TestClass {
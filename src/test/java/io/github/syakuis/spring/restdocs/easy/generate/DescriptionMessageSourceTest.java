@@ -9,7 +9,9 @@ import org.springframework.boot.autoconfigure.context.MessageSourceAutoConfigura
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Import;
+import org.springframework.context.support.StaticMessageSource;
 
+import java.util.Locale;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -64,6 +66,27 @@ class DescriptionMessageSourceTest {
         });
     }
 
+    @Test
+    void getEnumMessageRendersConstantsOncePerMessageGeneration() {
+        var staticMessageSource = new StaticMessageSource();
+        staticMessageSource.addMessage(Sex.class.getName() + ".male", Locale.getDefault(), "남성");
+        var cachingMessageSource = new CachingMessageSource(staticMessageSource);
+        var source = new DescriptionMessageSource(cachingMessageSource);
+        var sex = ClassMetadataGenerator.of(Sample.class).toList().get(3);
+
+        String expected = "sex" + System.lineSeparator() + System.lineSeparator()
+            + "male : 남성 + " + System.lineSeparator() + "female";
+        assertEquals(expected, source.getMessage(sex));
+        assertEquals(expected, source.getMessage(sex));
+        // base message looked up per call, constants only once
+        assertEquals(3, cachingMessageSource.statistics().missCount());
+
+        staticMessageSource.addMessage(Sex.class.getName() + ".female", Locale.getDefault(), "여성");
+        cachingMessageSource.clearCache();
+        assertEquals("sex" + System.lineSeparator() + System.lineSeparator()
+            + "male : 남성 + " + System.lineSeparator() + "female : 여성", source.getMessage(sex));
+    }
+
     record Sample(String name, String content, Abc abc, Sex sex) {
     }
 
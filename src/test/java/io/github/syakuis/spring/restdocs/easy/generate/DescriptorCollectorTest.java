@@ -98,4 +98,37 @@ class DescriptorCollectorTest {
 
         assertEquals(target, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void merge_keepsFirstSeenOrder() {
+        List<String> names = Arrays.asList("zeta", "alpha", "mu", "beta", "omega");
+        List<Descriptor> target = names.stream().map(name -> Descriptor.builder().name(name).build()).toList();
+        List<Descriptor> source = Arrays.asList(
+                Descriptor.builder().name("gamma").build(),
+                Descriptor.builder().name("mu").description("new_mu").build()
+        );
+
+        List<Descriptor> result = DescriptorCollector.merge(target, source);
+
+        assertEquals(Arrays.asList("zeta", "alpha", "mu", "beta", "omega", "gamma"), result.stream().map(Descriptor::name).toList());
+        assertEquals("new_mu", result.get(2).description());
+    }
+
+    @Test
+    void mergeAll_isEquivalentToChainedMerge() {
+        List<Descriptor> base = Arrays.asList(
+                Descriptor.builder().name("field1").description("desc1").build(),
+                Descriptor.builder().name("field2").description("desc2").build()
+        );
+        List<Descriptor> overrides = List.of(Descriptor.builder().name("field2").description("new_desc2").build());
+        List<Descriptor> extra = Arrays.asList(
+                Descriptor.builder().name("field3").description("desc3").build(),
+                Descriptor.builder().name("field1").description("new_desc1").build()
+        );
+
+        List<Descriptor> result = DescriptorCollector.mergeAll(Arrays.asList(base, null, overrides, extra));
+
+        assertEquals(DescriptorCollector.merge(DescriptorCollector.merge(base, overrides), extra), result);
+        assertEquals(Arrays.asList("new_desc1", "new_desc2", "desc3"), result.stream().map(Descriptor::description).toList());
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.syakuis.spring.restdocs.easy.generate;
+
+import jakarta.validation.constraints.NotBlank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.restdocs.payload.JsonFieldType;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+class DescriptorDiskCacheTest {
+    @TempDir
+    private Path directory;
+
+    private ResourceBundleMessageSource messageSource;
+
+    @BeforeEach
+    void setUp() {
+        messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("i18n/message");
+    }
+
+    @Test
+    void shouldReloadDescriptorsWrittenByPreviousRun() {
+        DescriptorDiskCache first = DescriptorDiskCache.create(directory, messageSource, new JsonFieldTypeMapper(), false);
+        List<Descriptor> generated = new ClassDescriptorGenerator(messageSource, new JsonFieldTypeMapper(), false, null, null, first)
+            .generate(Member.class);
+        first.flush();
+
+        assertTrue(Files.isRegularFile(directory.resolve(DescriptorDiskCache.FILE_NAME)));
+
+        Map<String, DescriptorDiskCache.Entry> entries = DescriptorDiskCache.read(directory.resolve(DescriptorDiskCache.FILE_NAME));
+        assertEquals(1, entries.size());
+        assertEquals(Set.of(Status.class.getName()), entries.values().iterator().next().dependencies().keySet());
+
+        DescriptorDiskCache second = DescriptorDiskCache.create(directory, messageSource, new JsonFieldTypeMapper(), false);
+        List<Descriptor> stored = second.get(Member.class, Set.of());
+
+        assertNotNull(stored);
+        assertEquals(generated.stream().map(Descriptor::name).toList(), stored.stream().map(Descriptor::name).toList());
+        assertEquals(generated.stream().map(Descriptor::description).toList(), stored.stream().map(Descriptor::description).toList());
+        assertEquals(generated.get(0).attributes()[0].getValue(), stored.get(0).attributes()[0].getValue());
+    }
+
+    @Test
+    void shouldMissWhenTheInputsChanged() {
+        DescriptorDiskCache cache = DescriptorDiskCache.create(directory, messageSource, new JsonFieldTypeMapper(), false);
+        List<Descriptor> descriptors = List.of(Descriptor.builder().name("name").description("name").build());
+        cache.put(Member.class, Set.of(), Set.of(Status.class), descriptors);
+        cache.flush();
+
+        assertSame(descriptors, cache.get(Member.class, Set.of()));
+        assertNull(cache.get(Member.class, Set.of(Runnable.class)));
+
+        JsonFieldTypeMapper mapper = new JsonFieldTypeMapper();
+        mapper.add(String.class, JsonFieldType.OBJECT);
+        DescriptorDiskCache remapped = DescriptorDiskCache.create(directory, messageSource, mapper, false);
+        assertNull(remapped.get(Member.class, Set.of()));
+
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(defaultLocale.equals(Locale.KOREAN) ? Locale.ENGLISH : Locale.KOREAN);
+            assertNull(cache.get(Member.class, Set.of()));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void shouldShareEntriesOfCachesOfTheSameDirectory() {
+        DescriptorDiskCache first = DescriptorDiskCache.create(directory, messageSource, new JsonFieldTypeMapper(), false);
+        DescriptorDiskCache second = DescriptorDiskCache.create(directory, messageSource, new JsonFieldTypeMapper(), false);
+        JsonFieldTypeMapper mapper = new JsonFieldTypeMapper();
+        mapper.add(String.class, JsonFieldType.OBJECT);
+        DescriptorDiskCache remapped = DescriptorDiskCache.create(directory, messageSource, mapper, false);
+
+        List<Descriptor> descriptors = List.of(Descriptor.builder().name("name").description("name").build());
+        List<Descriptor> remappedDescriptors = List.of(Descriptor.builder().name("name").description("remapped").build());
+        first.put(Member.class, Set.of(), Set.of(), descriptors);
+        remapped.put(Member.class, Set.of(), Set.of(), remappedDescriptors);
+        second.flush();
+
+        assertSame(descriptors, second.get(Member.class, Set.of()));
+        assertSame(remappedDescriptors, remapped.get(Member.class, Set.of()));
+        assertEquals(2, DescriptorDiskCache.read(directory.resolve(DescriptorDiskCache.FILE_NAME)).size());
+    }
+
+    @Test
+    void shouldNotCacheWithoutResourceBasedMessageSource() {
+        assertNull(DescriptorDiskCache.create(directory, new StaticMessageSource(), new JsonFieldTypeMapper(), false));
+    }
+
+    enum Status {
+        ACTIVE
+    }
+
+    record Member(@NotBlank String name, Status status) {
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.syakuis.spring.restdocs.easy.generate;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+class DescriptorIndexTest {
+    private final Descriptor field1 = Descriptor.builder().name("field1").description("desc1").build();
+    private final Descriptor field2 = Descriptor.builder().name("field2").description("desc2").build();
+    private final Descriptor field3 = Descriptor.builder().name("field3").description("desc3").build();
+
+    @Test
+    void retainAndRemove_keepInsertionOrder() {
+        DescriptorIndex index = new DescriptorIndex(List.of(field1, field2, field3));
+
+        index.retain(Set.of("field3", "field1", "unknown"));
+        assertEquals(List.of(field1, field3), index.toList());
+
+        index.remove(Set.of("field1"));
+        assertEquals(List.of(field3), index.toList());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void update_replacesMatchingDescriptors() {
+        DescriptorIndex index = new DescriptorIndex(List.of(field1, field2));
+
+        index.update(Set.of("field2"), descriptor -> descriptor.withOptional(true));
+        index.update(Set.of("field2"), descriptor -> descriptor.withIgnore(true));
+
+        Descriptor updated = index.toList().get(1);
+        assertTrue(updated.optional());
+        assertTrue(updated.ignore());
+        assertFalse(field2.optional());
+        assertFalse(field2.ignore());
+    }
+
+    @Test
+    void mergeAndAppend_handleDescriptorsWithSameName() {
+        Descriptor prefixed = Descriptor.builder().prefix("user.").name("field1").build();
+        Descriptor replacement = Descriptor.builder().name("field1").description("new").build();
+        DescriptorIndex index = new DescriptorIndex(List.of(field1, field2));
+
+        index.append(List.of(prefixed));
+        assertEquals(List.of(field1, field2, prefixed), index.toList());
+
+        index.merge(List.of(replacement, field3));
+        assertEquals(List.of(replacement, field2, field3), index.toList());
+    }
+}
@@ -44,4 +44,34 @@ class DescriptorTest {
         assertTrue(customDescriptor.ignore()); // 커스텀 값 확인
     }
 
-}
\ No newline at end of file
+    @Test
+    void testWithersReturnModifiedCopies() {
+        Descriptor descriptor = Descriptor.builder()
+            .name("Test Name")
+            .description("This is a test description")
+            .build();
+
+        Descriptor modified = descriptor.withOptional(true).withIgnore(true).withType(JsonFieldType.NUMBER).withPrefix("[].");
+
+        assertFalse(descriptor.optional());
+        assertFalse(descriptor.ignore());
+        assertEquals(JsonFieldType.STRING, descriptor.type());
+        assertNull(descriptor.prefix());
+        assertTrue(modified.optional());
+        assertTrue(modified.ignore());
+        assertEquals(JsonFieldType.NUMBER, modified.type());
+        assertEquals("[].", modified.prefix());
+        assertSame(descriptor, descriptor.withOptional(false));
+    }
+
+    @Test
+    void testIntern() {
+        Descriptor first = Descriptor.builder().name("Intern Name").description("desc").build();
+        Descriptor second = Descriptor.builder().name("Intern Name").description("desc").build();
+        Descriptor prefixed = second.withPrefix("user.");
+
+        assertSame(first.intern(), second.intern());
+        assertNotSame(first.intern(), prefixed.intern());
+        assertNotEquals(first, prefixed);
+    }
+}
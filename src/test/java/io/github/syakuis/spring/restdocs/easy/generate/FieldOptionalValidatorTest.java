@@ -3,6 +3,7 @@ package io.github.syakuis.spring.restdocs.easy.generate;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -126,4 +127,62 @@ class FieldOptionalValidatorTest {
         field = SampleClass2.class.getDeclaredField("optionalFieldWithoutConstraint");
         assertFalse(validator.hasValidationConstraint(field));
     }
+
+    // Test class mixing mandatory and non-mandatory constraints across groups
+    private static class SampleClassWithMixedGroups {
+        @Size(max = 10, groups = DefaultGroup.class)
+        @NotNull(groups = AnotherGroup.class)
+        private String mixedField;
+
+        @Size(max = 10, groups = AnotherGroup.class)
+        private String sizeWithAnotherGroup;
+
+        @Deprecated
+        private String nonConstraintAnnotation;
+    }
+
+    @Test
+    void testMandatoryOnlyInOtherGroupWhileConstraintMatches() throws NoSuchFieldException {
+        Field field = SampleClassWithMixedGroups.class.getDeclaredField("mixedField");
+
+        assertTrue(validatorWithGroups.isFieldOptional(field));
+        assertTrue(validatorWithGroups.hasValidationConstraint(field));
+
+        FieldOptionalValidator anotherGroupValidator = new FieldOptionalValidator(List.of(AnotherGroup.class));
+        assertFalse(anotherGroupValidator.isFieldOptional(field));
+        assertTrue(anotherGroupValidator.hasValidationConstraint(field));
+    }
+
+    @Test
+    void testGroupedConstraintIsIgnoredWithoutRequestedGroups() throws NoSuchFieldException {
+        Field field = SampleClassWithMixedGroups.class.getDeclaredField("sizeWithAnotherGroup");
+
+        assertFalse(validatorNoGroups.hasValidationConstraint(field));
+        assertFalse(validatorWithGroups.hasValidationConstraint(field));
+        assertTrue(validatorNoGroups.isFieldOptional(field));
+    }
+
+    @Test
+    void testNonConstraintAnnotationIsIgnored() throws NoSuchFieldException {
+        Field field = SampleClassWithMixedGroups.class.getDeclaredField("nonConstraintAnnotation");
+
+        assertTrue(validatorNoGroups.isFieldOptional(field));
+        assertFalse(validatorNoGroups.hasValidationConstraint(field));
+    }
+
+    @Test
+    void testRepeatedChecksReturnSameResult() throws NoSuchFieldException {
+        Field field = SampleClassWithGroup.class.getDeclaredField("notNullWithDefaultGroup");
+
+        for (int i = 0; i < 3; i++) {
+            assertFalse(validatorWithGroups.isFieldOptional(field));
+            assertTrue(validatorWithGroups.hasValidationConstraint(field));
+            assertTrue(validatorNoGroups.isFieldOptional(field));
+        }
+    }
+
+    @Test
+    void testNullFieldHasNoValidationConstraint() {
+        assertFalse(validatorNoGroups.hasValidationConstraint(null));
+    }
 }
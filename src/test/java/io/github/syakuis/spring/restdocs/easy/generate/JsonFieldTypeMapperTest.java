@@ -11,6 +11,8 @@ import java.time.LocalTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Seok Kyun. Choi.
@@ -67,6 +69,28 @@ class JsonFieldTypeMapperTest {
         assertEquals(JsonFieldType.STRING, jsonFieldTypeMapper.get(UUID.class));
     }
 
+    @Test
+    void testMostSpecificMappingWins() {
+        JsonFieldTypeMapper jsonFieldTypeMapper = new JsonFieldTypeMapper();
+        assertEquals(JsonFieldType.NUMBER, jsonFieldTypeMapper.get(java.math.BigDecimal.class));
+
+        jsonFieldTypeMapper.add(java.math.BigDecimal.class, JsonFieldType.STRING);
+
+        assertEquals(JsonFieldType.STRING, jsonFieldTypeMapper.get(java.math.BigDecimal.class));
+        assertEquals(JsonFieldType.NUMBER, jsonFieldTypeMapper.get(java.math.BigInteger.class));
+    }
+
+    @Test
+    void testResolvedTypeIsInvalidatedOnSet() {
+        JsonFieldTypeMapper jsonFieldTypeMapper = new JsonFieldTypeMapper();
+        assertEquals(JsonFieldType.ARRAY, jsonFieldTypeMapper.get(ArrayList.class));
+
+        jsonFieldTypeMapper.set(Map.of(List.class, JsonFieldType.VARIES));
+
+        assertEquals(JsonFieldType.VARIES, jsonFieldTypeMapper.get(ArrayList.class));
+        assertEquals(JsonFieldType.OBJECT, jsonFieldTypeMapper.get(HashSet.class));
+    }
+
     enum EnumExample {
         EXAMPLE1,
         EXAMPLE2
@@ -231,5 +255,17 @@ class JsonFieldTypeMapperTest {
             // Verify that old mappings are cleared
             assertEquals(JsonFieldType.OBJECT, jsonFieldTypeMapper.get(String.class));
         }
+
+        @Test
+        void testSnapshotIsImmutable() {
+            JsonFieldTypeMapper jsonFieldTypeMapper = new JsonFieldTypeMapper();
+            JsonFieldTypeMapper snapshot = jsonFieldTypeMapper.snapshot();
+
+            jsonFieldTypeMapper.add(UUID.class, JsonFieldType.OBJECT);
+
+            assertEquals(JsonFieldType.STRING, snapshot.get(UUID.class));
+            assertSame(snapshot, snapshot.snapshot());
+            assertThrows(UnsupportedOperationException.class, () -> snapshot.add(UUID.class, JsonFieldType.OBJECT));
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,64 @@
+package io.github.syakuis.spring.restdocs.easy.snippet;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.restdocs.mustache.Mustache;
+import org.springframework.restdocs.templates.StandardTemplateResourceResolver;
+import org.springframework.restdocs.templates.TemplateEngine;
+import org.springframework.restdocs.templates.TemplateFormats;
+import org.springframework.restdocs.templates.mustache.AsciidoctorTableCellContentLambda;
+import org.springframework.restdocs.templates.mustache.MustacheTemplateEngine;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+class PrecompiledTemplateEngineTest {
+    private final TemplateEngine mustacheTemplateEngine = new MustacheTemplateEngine(
+        new StandardTemplateResourceResolver(TemplateFormats.asciidoctor()),
+        Mustache.compiler().escapeHTML(false),
+        Map.of("tableCellContent", new AsciidoctorTableCellContentLambda()));
+
+    @Test
+    void shouldRenderLikeMustacheTemplateEngine() throws Exception {
+        Map<String, Object> model = Map.of("fields", List.of(
+            Map.of("path", "name", "type", "String", "description", "name | nickname", "optional", false,
+                "constraints", List.of("Must not be blank")),
+            Map.of("path", "email", "type", "String", "description", "email", "optional", true,
+                "constraints", List.of())));
+
+        PrecompiledTemplateEngine engine = PrecompiledTemplateEngine.asciidoctor();
+
+        String expected = mustacheTemplateEngine.compileTemplate("request-fields").render(model);
+        assertEquals(expected, engine.compileTemplate("request-fields").render(model));
+        assertEquals(expected, engine.compileTemplate("request-fields").render(model));
+        assertEquals(expected, PrecompiledTemplateEngine.asciidoctor().compileTemplate("request-fields").render(model));
+    }
+
+    @Test
+    void shouldLetModelOverrideEngineContext() throws Exception {
+        Mustache.Lambda upperCase = (fragment, out) -> out.write(fragment.execute().toUpperCase());
+        Map<String, Object> model = Map.of("tableCellContent", upperCase, "fields", List.of(
+            Map.of("path", "name", "type", "String", "description", "name", "optional", false, "constraints", List.of())));
+
+        String expected = mustacheTemplateEngine.compileTemplate("request-fields").render(model);
+        assertEquals(expected, PrecompiledTemplateEngine.asciidoctor().compileTemplate("request-fields").render(model));
+        assertTrue(expected.contains("`+NAME+`"));
+    }
+
+    @Test
+    void shouldRenderTemplatesOfItsTemplateFormat() throws Exception {
+        TemplateEngine markdownTemplateEngine = new MustacheTemplateEngine(
+            new StandardTemplateResourceResolver(TemplateFormats.markdown()), Mustache.compiler().escapeHTML(false), Map.of());
+        Map<String, Object> model = Map.of("fields", List.of(
+            Map.of("path", "name", "type", "String", "description", "name", "optional", false, "constraints", List.of())));
+
+        String expected = markdownTemplateEngine.compileTemplate("request-fields").render(model);
+        assertEquals(expected, new PrecompiledTemplateEngine(TemplateFormats.markdown()).compileTemplate("request-fields").render(model));
+        assertNotEquals(expected, PrecompiledTemplateEngine.asciidoctor().compileTemplate("request-fields").render(model));
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.syakuis.spring.restdocs.easy.snippet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.restdocs.ManualRestDocumentation;
+import org.springframework.restdocs.RestDocumentationContext;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+class SkipUnchangedWriterResolverTest {
+    @TempDir
+    private Path outputDirectory;
+
+    @Test
+    void shouldSkipUnchangedSnippets() throws Exception {
+        SkipUnchangedWriterResolver writerResolver = new SkipUnchangedWriterResolver();
+        RestDocumentationContext context = context();
+        Path snippet = outputDirectory.resolve("user-get/response-fields.adoc");
+
+        write(writerResolver, context, "|===\n|name\n|===\n");
+        FileTime written = FileTime.from(Instant.parse("2024-01-01T00:00:00Z"));
+        Files.setLastModifiedTime(snippet, written);
+
+        write(writerResolver, context, "|===\n|name\n|===\n");
+        assertEquals(written, Files.getLastModifiedTime(snippet));
+
+        write(writerResolver, context, "|===\n|email\n|===\n");
+        assertEquals("|===\n|email\n|===\n", Files.readString(snippet));
+        assertEquals(new SkipUnchangedWriterResolver.Statistics(2, 1), writerResolver.statistics());
+    }
+
+    @Test
+    void shouldWriteSnippetsInBackground() throws Exception {
+        RestDocumentationContext context = context();
+
+        try (SkipUnchangedWriterResolver writerResolver = new SkipUnchangedWriterResolver(2)) {
+            for (int i = 0; i < 10; i++) {
+                try (Writer writer = writerResolver.resolve("user-get", "snippet-" + i, context)) {
+                    writer.append("snippet ").append(String.valueOf(i));
+                }
+            }
+            writerResolver.flush();
+
+            assertEquals("snippet 7", Files.readString(outputDirectory.resolve("user-get/snippet-7.adoc")));
+            assertEquals(new SkipUnchangedWriterResolver.Statistics(10, 0), writerResolver.statistics());
+        }
+    }
+
+    @Test
+    void shouldFailWhenBackgroundWriteFails() throws Exception {
+        RestDocumentationContext context = context();
+        Files.writeString(outputDirectory.resolve("user-get"), "not a directory");
+
+        SkipUnchangedWriterResolver writerResolver = new SkipUnchangedWriterResolver(2);
+        write(writerResolver, context, "|===\n|name\n|===\n");
+
+        assertThrows(IOException.class, writerResolver::flush);
+        assertThrows(IOException.class, () -> write(writerResolver, context, "|===\n|name\n|===\n"));
+        assertThrows(IOException.class, writerResolver::close);
+    }
+
+    @Test
+    void shouldRejectSnippetsAfterClose() throws Exception {
+        RestDocumentationContext context = context();
+
+        SkipUnchangedWriterResolver writerResolver = new SkipUnchangedWriterResolver(2);
+        write(writerResolver, context, "|===\n|name\n|===\n");
+        writerResolver.close();
+
+        assertEquals("|===\n|name\n|===\n", Files.readString(outputDirectory.resolve("user-get/response-fields.adoc")));
+        assertThrows(IOException.class, () -> write(writerResolver, context, "|===\n|email\n|===\n"));
+    }
+
+    private void write(SkipUnchangedWriterResolver writerResolver, RestDocumentationContext context, String content) throws Exception {
+        try (Writer writer = writerResolver.resolve("user-get", "response-fields", context)) {
+            writer.append(content);
+        }
+    }
+
+    private RestDocumentationContext context() {
+        ManualRestDocumentation restDocumentation = new ManualRestDocumentation(outputDirectory.toString());
+        restDocumentation.beforeTest(getClass(), "shouldSkipUnchangedSnippets");
+        return restDocumentation.beforeOperation();
+    }
+}
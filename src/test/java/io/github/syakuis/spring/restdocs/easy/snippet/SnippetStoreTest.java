@@ -0,0 +1,128 @@
+package io.github.syakuis.spring.restdocs.easy.snippet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.restdocs.ManualRestDocumentation;
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.templates.TemplateEngine;
+
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Seok Kyun. Choi.
+ * @since 2026-10-16
+ */
+class SnippetStoreTest {
+    @TempDir
+    private Path outputDirectory;
+
+    @Test
+    void shouldAppendSnippetsToOneFile() throws Exception {
+        RestDocumentationContext context = context();
+
+        try (SnippetStoreWriterResolver writerResolver = new SnippetStoreWriterResolver()) {
+            write(writerResolver, context, "user-get", "response-fields", "|===\n|name\n|===\n");
+            write(writerResolver, context, "user-get", "http-request", "GET /users/1 HTTP/1.1\n");
+            write(writerResolver, context, "user-get", "response-fields", "|===\n|email\n|===\n");
+            assertEquals(3, writerResolver.appendedCount());
+            assertEquals(3, Files.readAllLines(outputDirectory.resolve(SnippetStore.FILE_NAME)).size());
+        }
+
+        Path file = outputDirectory.resolve(SnippetStore.FILE_NAME);
+        assertEquals(2, Files.readAllLines(file).size());
+
+        try (SnippetStore store = SnippetStore.open(file)) {
+            assertEquals(List.of("user-get/response-fields.adoc", "user-get/http-request.adoc"), List.copyOf(store.paths()));
+            assertEquals(Optional.of("|===\n|email\n|===\n"), store.get("user-get/response-fields.adoc"));
+            assertEquals(Optional.empty(), store.get("user-get/unknown.adoc"));
+
+            Path extracted = outputDirectory.resolve("extracted");
+            assertEquals(2, store.extract(extracted));
+            assertEquals(0, store.extract(extracted));
+            assertEquals("GET /users/1 HTTP/1.1\n", Files.readString(extracted.resolve("user-get/http-request.adoc")));
+        }
+    }
+
+    @Test
+    void shouldNotGrowAcrossRuns() throws Exception {
+        RestDocumentationContext context = context();
+        Path file = outputDirectory.resolve(SnippetStore.FILE_NAME);
+
+        try (SnippetStoreWriterResolver writerResolver = new SnippetStoreWriterResolver()) {
+            write(writerResolver, context, "user-get", "http-request", "GET /users/1 HTTP/1.1\n");
+            write(writerResolver, context, "user-get", "response-fields", "|===\n|name\n|===\n");
+        }
+        long size = Files.size(file);
+
+        try (SnippetStoreWriterResolver first = new SnippetStoreWriterResolver();
+             SnippetStoreWriterResolver second = new SnippetStoreWriterResolver()) {
+            write(first, context, "user-get", "http-request", "GET /users/1 HTTP/1.1\n");
+            write(second, context, "user-get", "response-fields", "|===\n|name\n|===\n");
+        }
+
+        assertEquals(size, Files.size(file));
+        try (SnippetStore store = SnippetStore.open(file)) {
+            assertEquals(List.of("user-get/http-request.adoc", "user-get/response-fields.adoc"), List.copyOf(store.paths()));
+        }
+    }
+
+    @Test
+    void shouldIndexStoreMappedInSegments() throws Exception {
+        RestDocumentationContext context = context();
+        Path file = outputDirectory.resolve(SnippetStore.FILE_NAME);
+
+        try (SnippetStoreWriterResolver writerResolver = new SnippetStoreWriterResolver()) {
+            for (int i = 0; i < 10; i++) {
+                write(writerResolver, context, "user-" + i, "http-request", "GET /users/" + i + " HTTP/1.1\n");
+            }
+        }
+
+        long segmentSize = Files.readAllLines(file).get(0).length() * 3L;
+        try (SnippetStore store = SnippetStore.open(file, segmentSize)) {
+            assertEquals(10, store.paths().size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals(Optional.of("GET /users/" + i + " HTTP/1.1\n"), store.get("user-" + i + "/http-request.adoc"));
+            }
+        }
+    }
+
+    @Test
+    void shouldStoreRawModelOfRenderedSnippets() throws Exception {
+        RestDocumentationContext context = context();
+        TemplateEngine templateEngine = new SnippetStoreTemplateEngine(name -> model -> "|===\n|name\n|===\n");
+        Map<String, Object> model = Map.of("fields", List.of(Map.of("path", "name", "optional", false)));
+
+        try (SnippetStoreWriterResolver writerResolver = new SnippetStoreWriterResolver()) {
+            try (Writer writer = writerResolver.resolve("user-get", "response-fields", context)) {
+                writer.append(templateEngine.compileTemplate("response-fields").render(model));
+            }
+            write(writerResolver, context, "user-get", "http-request", "GET /users/1 HTTP/1.1\n");
+        }
+
+        try (SnippetStore store = SnippetStore.open(outputDirectory.resolve(SnippetStore.FILE_NAME))) {
+            assertEquals(Optional.of(model), store.model("user-get/response-fields.adoc"));
+            assertEquals(Optional.of("|===\n|name\n|===\n"), store.get("user-get/response-fields.adoc"));
+            assertEquals(Optional.empty(), store.model("user-get/http-request.adoc"));
+        }
+    }
+
+    private void write(SnippetStoreWriterResolver writerResolver, RestDocumentationContext context,
+                       String operation, String snippet, String content) throws Exception {
+        try (Writer writer = writerResolver.resolve(operation, snippet, context)) {
+            writer.append(content);
+        }
+    }
+
+    private RestDocumentationContext context() {
+        ManualRestDocumentation restDocumentation = new ManualRestDocumentation(outputDirectory.toString());
+        restDocumentation.beforeTest(getClass(), "shouldAppendSnippetsToOneFile");
+        return restDocumentation.beforeOperation();
+    }
+}